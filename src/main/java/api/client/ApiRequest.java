@@ -0,0 +1,110 @@
+package api.client;
+
+import java.util.Map;
+
+/**
+ * Backend-neutral description of a single call: HTTP method, endpoint template from {@code APIConfig} and the values
+ * that fill it in. A request may instead carry a pre-built {@link #getTarget() target}; the template is then only
+ * used to identify the endpoint.
+ */
+public final class ApiRequest {
+    private final String method;
+    private final String path;
+    private final Map<String, ?> pathParams;
+    private final Map<String, ?> queryParams;
+    private final Object body;
+    private final String target;
+    private final boolean idempotent;
+    private final Deadline deadline;
+
+    public ApiRequest(String method, String path, Map<String, ?> pathParams, Map<String, ?> queryParams, Object body) {
+        this(method, path, pathParams, queryParams, body, null, false, null);
+    }
+
+    /**
+     * @param path   endpoint template, e.g. {@code /player/create/{editor}}
+     * @param target the expanded, percent-encoded path and query string, sent as is
+     */
+    public ApiRequest(String method, String path, String target, Object body) {
+        this(method, path, null, null, body, target, false, null);
+    }
+
+    private ApiRequest(String method, String path, Map<String, ?> pathParams, Map<String, ?> queryParams, Object body,
+                       String target, boolean idempotent, Deadline deadline) {
+        this.method = method;
+        this.path = path;
+        this.pathParams = pathParams;
+        this.queryParams = queryParams;
+        this.body = body;
+        this.target = target;
+        this.idempotent = idempotent;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Returns a copy marked safe to repeat, whatever its HTTP method. Only such requests are retried by
+     * {@link RetryPolicy}.
+     */
+    public ApiRequest idempotent() {
+        return new ApiRequest(method, path, pathParams, queryParams, body, target, true, deadline);
+    }
+
+    /**
+     * Returns a copy that transports must complete, or abandon, by {@code deadline}.
+     */
+    public ApiRequest withDeadline(Deadline deadline) {
+        return new ApiRequest(method, path, pathParams, queryParams, body, target, idempotent, deadline);
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public Map<String, ?> getPathParams() {
+        return pathParams;
+    }
+
+    public Map<String, ?> getQueryParams() {
+        return queryParams;
+    }
+
+    public Object getBody() {
+        return body;
+    }
+
+    /**
+     * Pre-encoded path and query, or null when the transport should expand {@link #getPath()} itself.
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    public boolean isIdempotent() {
+        return idempotent;
+    }
+
+    /**
+     * Deadline of the current attempt, or null when the call is unbounded.
+     */
+    public Deadline getDeadline() {
+        return deadline;
+    }
+
+    @Override
+    public String toString() {
+        return "ApiRequest{" +
+                "method='" + method + '\'' +
+                ", path='" + path + '\'' +
+                ", pathParams=" + pathParams +
+                ", queryParams=" + queryParams +
+                ", body=" + body +
+                ", target='" + target + '\'' +
+                ", idempotent=" + idempotent +
+                ", deadline=" + deadline +
+                '}';
+    }
+}
@@ -0,0 +1,267 @@
+package api.client;
+
+import common.env.APIConfig;
+import common.env.ConfigFactoryProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stops sending calls to a service that has stopped answering, so the rest of a run fails fast with one cause instead
+ * of every test waiting out its own network failures.
+ * <p>
+ * The outcomes of the last {@code http.circuit.window.size} calls are kept. A call fails when it ends in a transport
+ * error, a timeout or a 5xx response, and is slow when it takes longer than {@code http.circuit.slow.call.ms}. Once
+ * at least {@code http.circuit.minimum.calls} have been seen and the failure rate reaches
+ * {@code http.circuit.failure.rate.threshold} percent, or the slow-call rate reaches
+ * {@code http.circuit.slow.call.rate.threshold} percent, the circuit opens: calls are rejected with a
+ * {@link CircuitOpenException} carrying the failure that opened it. After {@code http.circuit.open.seconds} up to
+ * {@code http.circuit.half.open.probes} calls are let through; if they all succeed the circuit closes again, if one
+ * fails it re-opens.
+ * <p>
+ * Every admitted call carries the ticket of the state it was admitted in, and its outcome only counts while that
+ * state lasts: a call sent before the circuit opened cannot pass for a probe when it finishes half-open.
+ * <p>
+ * There is one breaker per service URL, shared by every client.
+ */
+public final class CircuitBreaker {
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+    private static final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String service;
+    private final boolean enabled;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long slowCallNanos;
+    private final int slowCallRateThreshold;
+    private final long openNanos;
+    private final int halfOpenProbes;
+
+    // Outcomes of the last window.length calls: 0 ok, 1 failed, 2 slow, 3 slow and failed
+    private final byte[] window;
+    private int next;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    // incremented on every state change; the ticket handed to the calls admitted in the current state
+    private long ticket;
+    private long openedAtNanos;
+    private int probesInFlight;
+    private int probesSucceeded;
+    private String openCause;
+    private int timesOpened;
+    private long rejected;
+
+    private CircuitBreaker(String service, APIConfig config) {
+        this.service = service;
+        this.enabled = config.httpCircuitEnabled();
+        this.window = new byte[Math.max(1, config.httpCircuitWindowSize())];
+        this.minimumCalls = Math.min(window.length, Math.max(1, config.httpCircuitMinimumCalls()));
+        this.failureRateThreshold = config.httpCircuitFailureRateThreshold();
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(config.httpCircuitSlowCallMs());
+        this.slowCallRateThreshold = config.httpCircuitSlowCallRateThreshold();
+        this.openNanos = TimeUnit.SECONDS.toNanos(config.httpCircuitOpenSeconds());
+        this.halfOpenProbes = Math.max(1, config.httpCircuitHalfOpenProbes());
+    }
+
+    public static CircuitBreaker forService(String service) {
+        return breakers.computeIfAbsent(service, key -> new CircuitBreaker(key, ConfigFactoryProvider.apiConfig()));
+    }
+
+    /**
+     * Every breaker created so far, by service URL.
+     */
+    public static Map<String, CircuitBreaker> all() {
+        return Map.copyOf(breakers);
+    }
+
+    /**
+     * Admits a call and returns its ticket, or throws {@link CircuitOpenException}. Every admitted call must be
+     * followed by exactly one {@link #onResponse(long, long, int)} or {@link #onError(long, long, Throwable)} with
+     * that ticket.
+     */
+    long acquire(ApiRequest request) {
+        if (!enabled) {
+            return 0;
+        }
+        synchronized (this) {
+            if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openNanos) {
+                logger.info("Circuit for {} half-open, probing with up to {} calls", service, halfOpenProbes);
+                state = State.HALF_OPEN;
+                ticket++;
+                probesInFlight = 0;
+                probesSucceeded = 0;
+            }
+            if (state == State.CLOSED) {
+                return ticket;
+            }
+            if (state == State.HALF_OPEN && probesInFlight + probesSucceeded < halfOpenProbes) {
+                probesInFlight++;
+                return ticket;
+            }
+            rejected++;
+        }
+        throw new CircuitOpenException(request, service, openCause);
+    }
+
+    /**
+     * Records a call that got a response. Only 5xx responses count against the service.
+     */
+    void onResponse(long ticket, long elapsedNanos, int statusCode) {
+        if (enabled) {
+            record(ticket, statusCode >= 500, elapsedNanos, "HTTP " + statusCode);
+        }
+    }
+
+    /**
+     * Records a call that failed without a response. Transport errors and timeouts of sent calls count against the
+     * service; any other error, including a timeout while waiting for a pooled connection, is a client-side problem
+     * and only frees the call's probe slot.
+     */
+    void onError(long ticket, long elapsedNanos, Throwable error) {
+        if (!enabled) {
+            return;
+        }
+        if (isServiceFailure(error)) {
+            record(ticket, true, elapsedNanos, error.toString());
+        } else {
+            synchronized (this) {
+                if (state == State.HALF_OPEN && ticket == this.ticket) {
+                    probesInFlight = Math.max(0, probesInFlight - 1);
+                }
+            }
+        }
+    }
+
+    private static boolean isServiceFailure(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RequestTimeoutException) {
+                return !((RequestTimeoutException) cause).isNotSent();
+            }
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized void record(long ticket, boolean failed, long elapsedNanos, String cause) {
+        if (ticket != this.ticket) {
+            // admitted in an earlier state, e.g. sent while closed and finished after the circuit opened
+            return;
+        }
+        boolean slow = elapsedNanos > slowCallNanos;
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+            if (failed || slow) {
+                open(failed ? cause : "probe took " + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + " ms");
+            } else if (++probesSucceeded >= halfOpenProbes) {
+                logger.info("Circuit for {} closed after {} successful probes", service, probesSucceeded);
+                state = State.CLOSED;
+                this.ticket++;
+                resetWindow();
+            }
+            return;
+        }
+        byte outcome = (byte) ((failed ? 1 : 0) | (slow ? 2 : 0));
+        if (recorded == window.length) {
+            byte evicted = window[next];
+            failures -= evicted & 1;
+            slowCalls -= (evicted >> 1) & 1;
+        } else {
+            recorded++;
+        }
+        window[next] = outcome;
+        next = (next + 1) % window.length;
+        failures += outcome & 1;
+        slowCalls += (outcome >> 1) & 1;
+
+        if (recorded < minimumCalls) {
+            return;
+        }
+        if (failures * 100 >= failureRateThreshold * recorded) {
+            open(failures + " of the last " + recorded + " calls failed, last: " + cause);
+        } else if (slowCalls * 100 >= slowCallRateThreshold * recorded) {
+            open(slowCalls + " of the last " + recorded + " calls took longer than "
+                    + TimeUnit.NANOSECONDS.toMillis(slowCallNanos) + " ms");
+        }
+    }
+
+    private void open(String cause) {
+        state = State.OPEN;
+        ticket++;
+        openedAtNanos = System.nanoTime();
+        openCause = cause;
+        timesOpened++;
+        resetWindow();
+        logger.error("Circuit for {} opened for {} s: {}", service, TimeUnit.NANOSECONDS.toSeconds(openNanos), cause);
+    }
+
+    private void resetWindow() {
+        next = 0;
+        recorded = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(state, timesOpened, rejected, openCause);
+    }
+
+    /**
+     * Immutable snapshot of a breaker's counters.
+     */
+    public static final class Stats {
+        private final State state;
+        private final int timesOpened;
+        private final long rejected;
+        private final String lastOpenCause;
+
+        private Stats(State state, int timesOpened, long rejected, String lastOpenCause) {
+            this.state = state;
+            this.timesOpened = timesOpened;
+            this.rejected = rejected;
+            this.lastOpenCause = lastOpenCause;
+        }
+
+        public State getState() {
+            return state;
+        }
+
+        public int getTimesOpened() {
+            return timesOpened;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+
+        public String getLastOpenCause() {
+            return lastOpenCause;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                    "state=" + state +
+                    ", timesOpened=" + timesOpened +
+                    ", rejected=" + rejected +
+                    ", lastOpenCause='" + lastOpenCause + '\'' +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package api.client;
+
+/**
+ * Thrown instead of sending a call while the {@link CircuitBreaker} for its service is open. The message carries the
+ * failure that opened the circuit, which is the real cause of every call rejected after it.
+ */
+public class CircuitOpenException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final String service;
+
+    public CircuitOpenException(ApiRequest request, String service, String openCause) {
+        super("HTTP " + request.getMethod() + " " + request.getPath() + " not sent: circuit for " + service
+                + " is open (" + openCause + ")");
+        this.service = service;
+    }
+
+    public String getService() {
+        return service;
+    }
+}
@@ -0,0 +1,174 @@
+package api.client;
+
+import common.env.APIConfig;
+import common.env.ConfigFactoryProvider;
+import org.apache.http.HeaderElement;
+import org.apache.http.HeaderElementIterator;
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.message.BasicHeaderElementIterator;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HTTP;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process-wide pooled connection manager shared by every {@link RestClient}.
+ * <p>
+ * REST Assured creates a fresh {@link DefaultHttpClient} (with its own single-connection manager) for every request
+ * by default, so keep-alive connections are never reused. All clients handed out by {@link #httpClient()} lease
+ * connections from one {@link PoolingClientConnectionManager} instead, sized from {@link APIConfig}.
+ */
+@SuppressWarnings("deprecation")
+public final class ConnectionPool {
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPool.class);
+    private static final AtomicLong createdConnections = new AtomicLong();
+    private static final PoolingClientConnectionManager connectionManager;
+    private static final ConnectionKeepAliveStrategy keepAliveStrategy;
+
+    static {
+        APIConfig config = ConfigFactoryProvider.apiConfig();
+        long keepAliveMillis = TimeUnit.SECONDS.toMillis(config.httpPoolKeepAliveSeconds());
+        int idleTimeoutSeconds = config.httpPoolIdleTimeoutSeconds();
+
+        connectionManager = new CountingConnectionManager(SchemeRegistryFactory.createDefault(),
+                keepAliveMillis, TimeUnit.MILLISECONDS);
+        int maxTotal = config.httpPoolMaxTotal();
+        int maxPerRoute = config.httpPoolMaxPerRoute();
+        if (ConfigFactoryProvider.appConfig().virtualThreads()) {
+            // in-flight calls are bounded by the virtual-thread ceiling instead, see RestClient
+            int ceiling = ConfigFactoryProvider.appConfig().virtualThreadsMaxConcurrency();
+            maxTotal = Math.max(maxTotal, ceiling);
+            maxPerRoute = Math.max(maxPerRoute, ceiling);
+        }
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        keepAliveStrategy = (response, context) -> {
+            // Honour the server's Keep-Alive timeout when it sends one, otherwise fall back to the configured value
+            HeaderElementIterator it = new BasicHeaderElementIterator(response.headerIterator(HTTP.CONN_KEEP_ALIVE));
+            while (it.hasNext()) {
+                HeaderElement element = it.nextElement();
+                if ("timeout".equalsIgnoreCase(element.getName()) && element.getValue() != null) {
+                    try {
+                        return Math.min(Long.parseLong(element.getValue()) * 1000, keepAliveMillis);
+                    } catch (NumberFormatException ignored) {
+                        // fall through to the configured keep-alive
+                    }
+                }
+            }
+            return keepAliveMillis;
+        };
+
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long evictionPeriod = Math.max(1, idleTimeoutSeconds / 2);
+        evictor.scheduleWithFixedDelay(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(idleTimeoutSeconds, TimeUnit.SECONDS);
+        }, evictionPeriod, evictionPeriod, TimeUnit.SECONDS);
+
+        logger.info("Initialized HTTP connection pool: maxTotal={}, maxPerRoute={}, idleTimeout={}s, keepAlive={}s",
+                maxTotal, maxPerRoute, idleTimeoutSeconds,
+                config.httpPoolKeepAliveSeconds());
+    }
+
+    private ConnectionPool() {}
+
+    /**
+     * Creates a lightweight client bound to the shared pool. Safe to call per request: the client itself holds no
+     * connections, everything is leased from and returned to the shared manager.
+     */
+    public static HttpClient httpClient() {
+        DefaultHttpClient client = new DefaultHttpClient(connectionManager);
+        client.setKeepAliveStrategy(keepAliveStrategy);
+        return client;
+    }
+
+    public static Stats stats() {
+        PoolStats total = connectionManager.getTotalStats();
+        return new Stats(total.getLeased(), total.getAvailable(), total.getPending(), total.getMax(),
+                createdConnections.get());
+    }
+
+    /**
+     * Immutable snapshot of the shared pool counters.
+     */
+    public static final class Stats {
+        private final int leased;
+        private final int idle;
+        private final int pending;
+        private final int max;
+        private final long created;
+
+        private Stats(int leased, int idle, int pending, int max, long created) {
+            this.leased = leased;
+            this.idle = idle;
+            this.pending = pending;
+            this.max = max;
+            this.created = created;
+        }
+
+        public int getLeased() {
+            return leased;
+        }
+
+        public int getIdle() {
+            return idle;
+        }
+
+        public int getPending() {
+            return pending;
+        }
+
+        public int getMax() {
+            return max;
+        }
+
+        public long getCreated() {
+            return created;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                    "leased=" + leased +
+                    ", idle=" + idle +
+                    ", pending=" + pending +
+                    ", max=" + max +
+                    ", created=" + created +
+                    '}';
+        }
+    }
+
+    private static final class CountingConnectionManager extends PoolingClientConnectionManager {
+        private CountingConnectionManager(SchemeRegistry registry, long timeToLive, TimeUnit unit) {
+            super(registry, timeToLive, unit);
+        }
+
+        @Override
+        protected ClientConnectionOperator createConnectionOperator(SchemeRegistry registry) {
+            return new DefaultClientConnectionOperator(registry) {
+                @Override
+                public OperatedClientConnection createConnection() {
+                    createdConnections.incrementAndGet();
+                    return super.createConnection();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package api.client;
+
+import java.time.Duration;
+
+/**
+ * A point in time by which a call, or a whole test, has to finish.
+ * <p>
+ * The deadline of the running test is kept per thread: {@link RestClient} reads it when a call starts and bounds every
+ * attempt of that call by it, so a hung connection cannot outlive the test that opened it. Async calls capture it on
+ * the calling thread.
+ */
+public final class Deadline {
+    private static final ThreadLocal<Deadline> current = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+    private final String owner;
+
+    private Deadline(long deadlineNanos, String owner) {
+        this.deadlineNanos = deadlineNanos;
+        this.owner = owner;
+    }
+
+    public static Deadline after(Duration budget, String owner) {
+        return new Deadline(System.nanoTime() + budget.toNanos(), owner);
+    }
+
+    /**
+     * Deadline of the test running on this thread, or null outside a test.
+     */
+    public static Deadline current() {
+        return current.get();
+    }
+
+    public static void set(Deadline deadline) {
+        current.set(deadline);
+    }
+
+    public static void clear() {
+        current.remove();
+    }
+
+    /**
+     * Deadline of one attempt: {@code timeout} from now, but never later than {@code outer} when there is one.
+     */
+    static Deadline forAttempt(Duration timeout, Deadline outer) {
+        Deadline attempt = after(timeout, "request");
+        return outer != null && outer.deadlineNanos - attempt.deadlineNanos < 0 ? outer : attempt;
+    }
+
+    public long remainingMillis() {
+        return Math.max(0, (deadlineNanos - System.nanoTime()) / 1_000_000);
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * What set this deadline, e.g. {@code request} or the name of a test method.
+     */
+    public String getOwner() {
+        return owner;
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline{" +
+                "owner='" + owner + '\'' +
+                ", remainingMillis=" + remainingMillis() +
+                '}';
+    }
+}
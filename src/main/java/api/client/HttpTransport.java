@@ -0,0 +1,20 @@
+package api.client;
+
+import io.restassured.response.Response;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Pluggable HTTP backend used by {@link RestClient}.
+ * <p>
+ * Implementations return REST Assured {@link Response}s whatever the underlying client is, so {@link ResponseWrapper}
+ * and {@code response.then()} assertions behave the same for every backend. Select one with {@code http.transport}:
+ * {@code restassured} (default), {@code jdk}, or the fully qualified name of a class implementing this interface with
+ * a public constructor taking a {@link Configuration}.
+ */
+public interface HttpTransport {
+
+    Response execute(ApiRequest request);
+
+    CompletableFuture<Response> executeAsync(ApiRequest request);
+}
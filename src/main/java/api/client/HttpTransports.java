@@ -0,0 +1,50 @@
+package api.client;
+
+import common.env.ConfigFactoryProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.http.HttpClient;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the {@link HttpTransport} configured by {@code http.transport}. Transports are cached per
+ * {@link Configuration} so every client talking to the same service shares one backend and its connections.
+ */
+final class HttpTransports {
+    private static final Logger logger = LoggerFactory.getLogger(HttpTransports.class);
+    private static final Map<Configuration, HttpTransport> transports = new ConcurrentHashMap<>();
+
+    private HttpTransports() {}
+
+    static HttpTransport forConfiguration(Configuration configuration) {
+        return transports.computeIfAbsent(configuration, HttpTransports::create);
+    }
+
+    private static HttpTransport create(Configuration configuration) {
+        String name = ConfigFactoryProvider.apiConfig().httpTransport();
+        logger.info("Using '{}' HTTP transport for {}", name, configuration.getServicePath());
+        switch (name) {
+            case "restassured":
+                return new RestAssuredTransport(configuration);
+            case "jdk":
+                return new JdkHttpTransport(configuration,
+                        HttpClient.Version.valueOf(ConfigFactoryProvider.apiConfig().httpTransportJdkVersion()));
+            default:
+                return newCustomTransport(name, configuration);
+        }
+    }
+
+    private static HttpTransport newCustomTransport(String className, Configuration configuration) {
+        try {
+            Class<?> type = Class.forName(className);
+            if (!HttpTransport.class.isAssignableFrom(type)) {
+                throw new IllegalStateException(className + " does not implement " + HttpTransport.class.getName());
+            }
+            return (HttpTransport) type.getConstructor(Configuration.class).newInstance(configuration);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create HTTP transport '" + className + "'", e);
+        }
+    }
+}
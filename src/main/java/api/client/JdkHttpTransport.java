@@ -0,0 +1,205 @@
+package api.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import common.VirtualThreads;
+import common.env.ConfigFactoryProvider;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link HttpTransport} on {@code java.net.http}. Selected with {@code http.transport=jdk} it speaks HTTP/2 (or the
+ * version in {@code http.transport.jdk.version}), multiplexing concurrent calls over a single connection per host
+ * when the server supports it and falling back to HTTP/1.1 otherwise. It also backs the {@code *Async} methods of the
+ * REST Assured transport.
+ * <p>
+ * Responses are adapted into REST Assured {@link Response}s so {@link ResponseWrapper} and {@code response.then()}
+ * assertions work exactly as with the default backend.
+ * <p>
+ * Connects are bounded by {@code http.connect.timeout.ms}. A call carrying a {@link ApiRequest#getDeadline() deadline}
+ * is cancelled when it passes, which aborts the exchange and releases its stream or connection.
+ */
+final class JdkHttpTransport implements HttpTransport {
+    private static final Logger logger = LoggerFactory.getLogger(JdkHttpTransport.class);
+    private static final ExecutorService defaultExecutor = newDefaultExecutor();
+
+    private final Configuration configuration;
+    private final HttpClient httpClient;
+
+    JdkHttpTransport(Configuration configuration, HttpClient.Version version) {
+        this.configuration = configuration;
+        this.httpClient = HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(Duration.ofMillis(ConfigFactoryProvider.apiConfig().httpConnectTimeoutMs()))
+                .executor(defaultExecutor)
+                .build();
+    }
+
+    static ExecutorService defaultExecutor() {
+        return defaultExecutor;
+    }
+
+    @Override
+    public Response execute(ApiRequest request) {
+        HttpRequest httpRequest = toHttpRequest(request);
+        CompletableFuture<HttpResponse<byte[]>> call = httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+        try {
+            HttpResponse<byte[]> response = request.getDeadline() == null
+                    ? call.get()
+                    : call.get(request.getDeadline().remainingMillis(), TimeUnit.MILLISECONDS);
+            return toRestAssuredResponse(response);
+        } catch (TimeoutException e) {
+            call.cancel(true);
+            throw new RequestTimeoutException(request, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof HttpTimeoutException) {
+                throw new RequestTimeoutException(request, cause);
+            }
+            if (cause instanceof IOException) {
+                throw new UncheckedIOException("HTTP " + request.getMethod() + " " + httpRequest.uri() + " failed", (IOException) cause);
+            }
+            throw new IllegalStateException("HTTP " + request.getMethod() + " " + httpRequest.uri() + " failed", cause);
+        } catch (InterruptedException e) {
+            call.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during HTTP " + request.getMethod() + " " + httpRequest.uri(), e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Response> executeAsync(ApiRequest request) {
+        HttpRequest httpRequest;
+        try {
+            httpRequest = toHttpRequest(request);
+        } catch (IllegalArgumentException | RequestTimeoutException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        logger.debug("Dispatching async {} {}", request.getMethod(), httpRequest.uri());
+        CompletableFuture<HttpResponse<byte[]>> call = httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+        if (request.getDeadline() == null) {
+            return call.thenApply(JdkHttpTransport::toRestAssuredResponse);
+        }
+        // Time out a copy so that the exchange itself can still be cancelled, which is what aborts it
+        return call.copy()
+                .orTimeout(request.getDeadline().remainingMillis(), TimeUnit.MILLISECONDS)
+                .handle((response, error) -> {
+                    if (error == null) {
+                        return toRestAssuredResponse(response);
+                    }
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause()
+                            : error;
+                    if (cause instanceof TimeoutException || cause instanceof HttpTimeoutException) {
+                        call.cancel(true);
+                        throw new RequestTimeoutException(request, cause);
+                    }
+                    throw error instanceof CompletionException
+                            ? (CompletionException) error
+                            : new CompletionException(error);
+                });
+    }
+
+    private HttpRequest toHttpRequest(ApiRequest request) {
+        HttpRequest.BodyPublisher body;
+        try {
+            body = request.getBody() == null
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofByteArray(JsonCodecs.writeAsBytes(request.getBody()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize payload: " + request.getBody(), e);
+        }
+        URI uri = request.getTarget() != null
+                ? URI.create(configuration.getServicePath() + request.getTarget())
+                : resolve(configuration.getServicePath(), request.getPath(), request.getPathParams(), request.getQueryParams());
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .header("Content-Type", configuration.getContentType())
+                .header("Accept", configuration.getContentType())
+                .method(request.getMethod(), body);
+        if (configuration.getHeaders() != null) {
+            configuration.getHeaders().forEach(builder::header);
+        }
+        if (request.getDeadline() != null) {
+            long remainingMillis = request.getDeadline().remainingMillis();
+            if (remainingMillis <= 0) {
+                throw RequestTimeoutException.notSent(request, null);
+            }
+            builder.timeout(Duration.ofMillis(remainingMillis));
+        }
+        return builder.build();
+    }
+
+    static URI resolve(String baseUri, String path, Map<String, ?> pathParams, Map<String, ?> queryParams) {
+        String resolvedPath = path;
+        if (pathParams != null) {
+            for (Map.Entry<String, ?> param : pathParams.entrySet()) {
+                resolvedPath = resolvedPath.replace("{" + param.getKey() + "}", encode(param.getValue()).replace("+", "%20"));
+            }
+        }
+        StringBuilder uri = new StringBuilder(baseUri).append(resolvedPath);
+        if (queryParams != null && !queryParams.isEmpty()) {
+            char separator = '?';
+            for (Map.Entry<String, ?> param : queryParams.entrySet()) {
+                if (param.getValue() == null) {
+                    continue;
+                }
+                uri.append(separator).append(encode(param.getKey())).append('=').append(encode(param.getValue()));
+                separator = '&';
+            }
+        }
+        return URI.create(uri.toString());
+    }
+
+    private static String encode(Object value) {
+        return URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8);
+    }
+
+    private static Response toRestAssuredResponse(HttpResponse<byte[]> httpResponse) {
+        List<Header> headers = new ArrayList<>();
+        httpResponse.headers().map().forEach((name, values) -> values.forEach(value -> headers.add(new Header(name, value))));
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(httpResponse.statusCode())
+                .setHeaders(new Headers(headers))
+                .setBody(httpResponse.body());
+        httpResponse.headers().firstValue("Content-Type").ifPresent(builder::setContentType);
+        return builder.build();
+    }
+
+    private static ExecutorService newDefaultExecutor() {
+        if (ConfigFactoryProvider.appConfig().virtualThreads()) {
+            return VirtualThreads.newThreadPerTaskExecutor("http-async-");
+        }
+        int threads = ConfigFactoryProvider.apiConfig().httpAsyncThreads();
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "http-async-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,112 @@
+package api.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Pulls the elements of one top-level array field, e.g. {@code players} in {@code {"players":[...]}}, one at a time
+ * off a streaming parser. Only the current element is ever bound; with a projection only the listed fields of it.
+ * <p>
+ * What is streamed is object materialization, not I/O: both transports hand over the body as one buffered byte
+ * array, and the parser runs over that. The saving is the enclosing object and the elements never bound at once.
+ */
+final class JsonArrayIterator<E> implements Iterator<E>, AutoCloseable {
+    private final JsonParser parser;
+    private final Class<E> elementClass;
+    private final Predicate<? super E> filter;
+    private final Set<String> fields;
+    private E next;
+    private boolean done;
+
+    JsonArrayIterator(byte[] body, String arrayField, Class<E> elementClass, Predicate<? super E> filter,
+                      Set<String> fields) {
+        this.elementClass = elementClass;
+        this.filter = filter;
+        this.fields = fields;
+        try {
+            this.parser = JsonCodecs.mapper().getFactory().createParser(body);
+            this.done = !seekArray(arrayField);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open JSON body", e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null && !done) {
+            try {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    close();
+                    break;
+                }
+                E element = readElement();
+                if (filter == null || filter.test(element)) {
+                    next = element;
+                }
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException("Failed to read " + elementClass.getSimpleName() + " from stream", e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        E element = next;
+        next = null;
+        return element;
+    }
+
+    @Override
+    public void close() {
+        done = true;
+        try {
+            parser.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean seekArray(String arrayField) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            if (parser.nextToken() == JsonToken.START_ARRAY && arrayField.equals(field)) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private E readElement() throws IOException {
+        if (fields == null || fields.isEmpty()) {
+            return JsonCodecs.read(parser, elementClass);
+        }
+        ObjectNode projected = JsonCodecs.mapper().createObjectNode();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if (fields.contains(field)) {
+                projected.set(field, JsonCodecs.mapper().readTree(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return JsonCodecs.reader(elementClass).readValue(projected);
+    }
+}
@@ -0,0 +1,69 @@
+package api.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared JSON codecs for request and response bodies.
+ * <p>
+ * The mapper uses Jackson Blackbird, which replaces reflective property access with generated lambdas, and keeps one
+ * {@link ObjectReader} / {@link ObjectWriter} per type with its (de)serializer already resolved. Model classes are
+ * compiled up front with {@link #precompile(Class[])} so the first request does not pay for it; other types are
+ * compiled on first use.
+ */
+public final class JsonCodecs {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true)
+            .configure(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY, true)
+            .configure(DeserializationFeature.FAIL_ON_NUMBERS_FOR_ENUMS, false)
+            .registerModule(new BlackbirdModule());
+    private static final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    private JsonCodecs() {}
+
+    public static void precompile(Class<?>... types) {
+        for (Class<?> type : types) {
+            reader(type);
+            writer(type);
+        }
+    }
+
+    public static ObjectMapper mapper() {
+        return OBJECT_MAPPER;
+    }
+
+    public static ObjectReader reader(Class<?> type) {
+        return readers.computeIfAbsent(type, OBJECT_MAPPER::readerFor);
+    }
+
+    public static ObjectWriter writer(Class<?> type) {
+        return writers.computeIfAbsent(type, OBJECT_MAPPER::writerFor);
+    }
+
+    public static <T> T read(byte[] body, Class<T> type) throws IOException {
+        return reader(type).readValue(body);
+    }
+
+    public static <T> T read(JsonParser parser, Class<T> type) throws IOException {
+        return reader(type).readValue(parser);
+    }
+
+    public static byte[] writeAsBytes(Object value) throws JsonProcessingException {
+        return writer(value.getClass()).writeValueAsBytes(value);
+    }
+
+    public static String writeAsString(Object value) throws JsonProcessingException {
+        return writer(value.getClass()).writeValueAsString(value);
+    }
+}
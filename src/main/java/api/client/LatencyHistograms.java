@@ -0,0 +1,175 @@
+package api.client;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency distribution of every attempt {@link RestClient} sends, by endpoint ({@code METHOD template}) and outcome
+ * class ({@code 2xx} ... {@code 5xx}, {@code timeout}, {@code error}). Calls of
+ * {@link RestClient#setHousekeeping(boolean) housekeeping} clients get their own classes, prefixed {@code hk-}.
+ * <p>
+ * Only the time an attempt spends in the transport is recorded: rate-limiter and in-flight waits and retry backoff
+ * are the client's own, and a retried call contributes one value per attempt. Attempts refused before anything was
+ * sent are not recorded at all.
+ * <p>
+ * Values are kept in microseconds in auto-resizing HdrHistograms with three significant digits. Recording is
+ * wait-free, so every worker records straight into the shared histograms.
+ */
+public final class LatencyHistograms {
+    public static final String TIMEOUT = "timeout";
+    public static final String ERROR = "error";
+    public static final String HOUSEKEEPING = "hk-";
+    private static final String SUCCESS = "2xx";
+    private static final String[] JUDGED = {SUCCESS, TIMEOUT};
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final LatencyHistograms instance = new LatencyHistograms();
+
+    private final Map<String, Map<String, Histogram>> histograms = new ConcurrentHashMap<>();
+
+    private LatencyHistograms() {}
+
+    public static LatencyHistograms getInstance() {
+        return instance;
+    }
+
+    public static String endpoint(ApiRequest request) {
+        return request.getMethod() + " " + request.getPath();
+    }
+
+    public static String statusClass(int statusCode) {
+        return (statusCode / 100) + "xx";
+    }
+
+    void record(ApiRequest request, String outcome, boolean housekeeping, long elapsedNanos) {
+        record(endpoint(request), housekeeping ? HOUSEKEEPING + outcome : outcome, elapsedNanos);
+    }
+
+    public void record(String endpoint, String outcome, long elapsedNanos) {
+        histogram(endpoint, outcome).recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(elapsedNanos)));
+    }
+
+    /**
+     * Copies of the histograms recorded so far, by endpoint and outcome class.
+     */
+    public Map<String, Map<String, Histogram>> snapshot() {
+        Map<String, Map<String, Histogram>> snapshot = new TreeMap<>();
+        histograms.forEach((endpoint, byOutcome) -> {
+            Map<String, Histogram> copies = new TreeMap<>();
+            byOutcome.forEach((outcome, histogram) -> copies.put(outcome, histogram.copy()));
+            snapshot.put(endpoint, Collections.unmodifiableMap(copies));
+        });
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * All outcomes of one endpoint merged into one histogram, or null if it was never called.
+     */
+    public Histogram merged(String endpoint) {
+        Map<String, Histogram> byOutcome = histograms.get(endpoint);
+        if (byOutcome == null) {
+            return null;
+        }
+        Histogram merged = new Histogram(SIGNIFICANT_DIGITS);
+        byOutcome.values().forEach(merged::add);
+        return merged;
+    }
+
+    /**
+     * Every call to an endpoint template, whatever its method or outcome, merged into one histogram; null if the
+     * template was never called.
+     */
+    public Histogram mergedForPath(String path) {
+        Histogram merged = null;
+        for (Map.Entry<String, Map<String, Histogram>> entry : histograms.entrySet()) {
+            if (entry.getKey().substring(entry.getKey().indexOf(' ') + 1).equals(path)) {
+                if (merged == null) {
+                    merged = new Histogram(SIGNIFICANT_DIGITS);
+                }
+                entry.getValue().values().forEach(merged::add);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * The successful ({@code 2xx}) and timed-out attempts at an endpoint template that were not housekeeping, whatever
+     * their method, merged into one histogram; null if there were none. A timeout is recorded at the time the attempt
+     * waited, i.e. at the timeout it hit, so a service that stops answering raises the percentiles rather than leaving
+     * them.
+     */
+    public Histogram judgedForPath(String path) {
+        Histogram merged = null;
+        for (Map.Entry<String, Map<String, Histogram>> entry : histograms.entrySet()) {
+            if (!entry.getKey().substring(entry.getKey().indexOf(' ') + 1).equals(path)) {
+                continue;
+            }
+            for (String outcome : JUDGED) {
+                Histogram judged = entry.getValue().get(outcome);
+                if (judged != null) {
+                    if (merged == null) {
+                        merged = new Histogram(SIGNIFICANT_DIGITS);
+                    }
+                    merged.add(judged);
+                }
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Plain-text p50/p90/p99/p99.9/max table in milliseconds, one row per endpoint and outcome.
+     */
+    public String formatTable() {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT, "%-32s %-8s %8s %10s %10s %10s %10s %10s%n",
+                "endpoint", "outcome", "count", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        snapshot().forEach((endpoint, byOutcome) -> byOutcome.forEach((outcome, histogram) -> {
+            table.append(String.format(Locale.ROOT, "%-32s %-8s %8d", endpoint, outcome, histogram.getTotalCount()));
+            for (double percentile : PERCENTILES) {
+                table.append(String.format(Locale.ROOT, " %10.3f", millis(histogram.getValueAtPercentile(percentile))));
+            }
+            table.append(String.format(Locale.ROOT, " %10.3f%n", millis(histogram.getMaxValue())));
+        }));
+        return table.toString();
+    }
+
+    /**
+     * Writes the same figures as {@link #formatTable()} as CSV, for comparing runs.
+     */
+    public void writeCsv(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
+            writer.println("endpoint,outcome,count,p50_ms,p90_ms,p99_ms,p999_ms,max_ms,mean_ms");
+            snapshot().forEach((endpoint, byOutcome) -> byOutcome.forEach((outcome, histogram) -> {
+                StringBuilder row = new StringBuilder("\"").append(endpoint).append("\",").append(outcome)
+                        .append(',').append(histogram.getTotalCount());
+                for (double percentile : PERCENTILES) {
+                    row.append(',').append(String.format(Locale.ROOT, "%.3f", millis(histogram.getValueAtPercentile(percentile))));
+                }
+                row.append(',').append(String.format(Locale.ROOT, "%.3f", millis(histogram.getMaxValue())));
+                row.append(',').append(String.format(Locale.ROOT, "%.3f", histogram.getMean() / 1000));
+                writer.println(row);
+            }));
+        }
+    }
+
+    private Histogram histogram(String endpoint, String outcome) {
+        return histograms.computeIfAbsent(endpoint, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(outcome, key -> new ConcurrentHistogram(SIGNIFICANT_DIGITS));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,139 @@
+package api.client;
+
+import common.env.APIConfig;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A suite-level latency objective: percentile {@code p} of the successful and timed-out attempts the tests make at
+ * one endpoint template must stay below a threshold, a timeout counting at the timeout it hit. Other failures and
+ * housekeeping traffic (fixture provisioning, cleanup) are reported in the latency table but not judged.
+ * <p>
+ * Objectives are declared per endpoint in {@link APIConfig} as a comma-separated list of {@code p<percentile>:<ms>},
+ * e.g. {@code http.slo.player.get=p50:100,p99:300}, and evaluated against {@link LatencyHistograms} at suite end.
+ * Endpoints with fewer than {@code http.slo.min.samples} calls are reported as inconclusive rather than judged.
+ */
+public final class LatencySlo {
+    private final String path;
+    private final double percentile;
+    private final long thresholdMillis;
+
+    public LatencySlo(String path, double percentile, long thresholdMillis) {
+        this.path = path;
+        this.percentile = percentile;
+        this.thresholdMillis = thresholdMillis;
+    }
+
+    public static List<LatencySlo> fromConfig(APIConfig config) {
+        List<LatencySlo> slos = new ArrayList<>();
+        parse(config.endpointPlayerCreate(), config.httpSloPlayerCreate(), slos);
+        parse(config.endpointPlayerGet(), config.httpSloPlayerGet(), slos);
+        parse(config.endpointPlayerGetAll(), config.httpSloPlayerGetAll(), slos);
+        parse(config.endpointPlayerUpdate(), config.httpSloPlayerUpdate(), slos);
+        parse(config.endpointPlayerDelete(), config.httpSloPlayerDelete(), slos);
+        return Collections.unmodifiableList(slos);
+    }
+
+    static void parse(String path, String spec, List<LatencySlo> into) {
+        if (spec == null || spec.isBlank()) {
+            return;
+        }
+        for (String objective : spec.split(",")) {
+            String trimmed = objective.trim().toLowerCase(Locale.ROOT);
+            int colon = trimmed.indexOf(':');
+            if (!trimmed.startsWith("p") || colon < 0) {
+                throw new IllegalArgumentException("Invalid latency SLO '" + objective + "' for " + path
+                        + "; expected p<percentile>:<ms>, e.g. p99:300");
+            }
+            try {
+                double percentile = Double.parseDouble(trimmed.substring(1, colon));
+                long millis = Long.parseLong(trimmed.substring(colon + 1).replace("ms", "").trim());
+                // p999 is shorthand for p99.9
+                if (percentile > 100) {
+                    percentile = percentile / Math.pow(10, String.valueOf((long) percentile).length() - 2);
+                }
+                into.add(new LatencySlo(path, percentile, millis));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid latency SLO '" + objective + "' for " + path, e);
+            }
+        }
+    }
+
+    public Result evaluate(LatencyHistograms latencies, long minSamples) {
+        Histogram histogram = latencies.judgedForPath(path);
+        long samples = histogram == null ? 0 : histogram.getTotalCount();
+        double observedMillis = samples == 0 ? 0 : histogram.getValueAtPercentile(percentile) / 1000.0;
+        return new Result(this, samples, observedMillis, samples >= minSamples);
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public long getThresholdMillis() {
+        return thresholdMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "p%s of %s < %d ms", formatPercentile(percentile), path, thresholdMillis);
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+
+    /**
+     * Outcome of one objective.
+     */
+    public static final class Result {
+        private final LatencySlo slo;
+        private final long samples;
+        private final double observedMillis;
+        private final boolean conclusive;
+
+        private Result(LatencySlo slo, long samples, double observedMillis, boolean conclusive) {
+            this.slo = slo;
+            this.samples = samples;
+            this.observedMillis = observedMillis;
+            this.conclusive = conclusive;
+        }
+
+        public LatencySlo getSlo() {
+            return slo;
+        }
+
+        public long getSamples() {
+            return samples;
+        }
+
+        public double getObservedMillis() {
+            return observedMillis;
+        }
+
+        /**
+         * False when too few calls were recorded to judge the objective.
+         */
+        public boolean isConclusive() {
+            return conclusive;
+        }
+
+        public boolean isMet() {
+            return !conclusive || observedMillis < slo.thresholdMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%s: %s (%.3f ms over %d calls)", slo,
+                    !conclusive ? "INCONCLUSIVE" : isMet() ? "MET" : "VIOLATED", observedMillis, samples);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package api.client;
+
+import common.env.APIConfig;
+import common.env.ConfigFactoryProvider;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client-side token buckets, one per endpoint template, that keep the suite under the request rate the shared
+ * environment tolerates.
+ * <p>
+ * Each endpoint gets {@code http.rate.limit.<endpoint>.rps} permits per second, or {@code http.rate.limit.rps} when
+ * its own key is negative; zero leaves the endpoint unlimited. Up to {@code http.rate.limit.burst} permits can be
+ * saved up while an endpoint is idle. {@link #acquire(ApiRequest, long)} waits for a permit,
+ * {@link #tryAcquire(ApiRequest)} never waits, and {@link #reserve(ApiRequest, long)} books a permit and returns the
+ * wait for the caller to schedule, which is how async calls are delayed without blocking a thread. Time spent waiting
+ * is accumulated per endpoint.
+ */
+public final class RateLimiter {
+    private static final RateLimiter instance = new RateLimiter(ConfigFactoryProvider.apiConfig());
+
+    private final double defaultRate;
+    private final int burst;
+    private final Map<String, Double> rates = new HashMap<>();
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> waitNanos = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> waits = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> refused = new ConcurrentHashMap<>();
+
+    RateLimiter(APIConfig config) {
+        this.defaultRate = config.httpRateLimitRps();
+        this.burst = Math.max(1, config.httpRateLimitBurst());
+        rates.put(config.endpointPlayerCreate(), config.httpRateLimitPlayerCreateRps());
+        rates.put(config.endpointPlayerGet(), config.httpRateLimitPlayerGetRps());
+        rates.put(config.endpointPlayerGetAll(), config.httpRateLimitPlayerGetAllRps());
+        rates.put(config.endpointPlayerUpdate(), config.httpRateLimitPlayerUpdateRps());
+        rates.put(config.endpointPlayerDelete(), config.httpRateLimitPlayerDeleteRps());
+    }
+
+    public static RateLimiter getInstance() {
+        return instance;
+    }
+
+    /**
+     * Waits for a permit for the request's endpoint, at most {@code maxWaitMillis}.
+     *
+     * @return false if no permit could be had in time; nothing is taken from the bucket then
+     */
+    public boolean acquire(ApiRequest request, long maxWaitMillis) throws InterruptedException {
+        long wait = reserve(request, maxWaitMillis);
+        if (wait < 0) {
+            return false;
+        }
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+        return true;
+    }
+
+    /**
+     * Takes a permit only if one is available right now.
+     */
+    public boolean tryAcquire(ApiRequest request) {
+        return reserve(request, 0) == 0;
+    }
+
+    /**
+     * Books a permit that becomes usable at most {@code maxWaitMillis} from now.
+     *
+     * @return nanoseconds until the permit may be used, or -1 if it would take longer than {@code maxWaitMillis}
+     */
+    public long reserve(ApiRequest request, long maxWaitMillis) {
+        Bucket bucket = bucket(request.getPath());
+        if (bucket == null) {
+            return 0;
+        }
+        long wait = bucket.reserve(System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(maxWaitMillis));
+        if (wait < 0) {
+            counter(refused, request.getPath()).increment();
+        } else if (wait > 0) {
+            counter(waits, request.getPath()).increment();
+            counter(waitNanos, request.getPath()).add(wait);
+        }
+        return wait;
+    }
+
+    /**
+     * Total time calls were held back, in milliseconds, by endpoint template.
+     */
+    public Map<String, Long> waitMillisByEndpoint() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        waitNanos.forEach((endpoint, nanos) -> snapshot.put(endpoint, TimeUnit.NANOSECONDS.toMillis(nanos.sum())));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * Calls that had to wait for a permit, by endpoint template.
+     */
+    public Map<String, Long> waitsByEndpoint() {
+        return snapshot(waits);
+    }
+
+    /**
+     * Calls that could not get a permit within their allowed wait, by endpoint template.
+     */
+    public Map<String, Long> refusedByEndpoint() {
+        return snapshot(refused);
+    }
+
+    private Bucket bucket(String endpoint) {
+        Bucket bucket = buckets.get(endpoint);
+        if (bucket != null) {
+            return bucket.isUnlimited() ? null : bucket;
+        }
+        double rate = rates.getOrDefault(endpoint, -1.0);
+        bucket = buckets.computeIfAbsent(endpoint, key -> new Bucket(rate < 0 ? defaultRate : rate, burst));
+        return bucket.isUnlimited() ? null : bucket;
+    }
+
+    private static LongAdder counter(Map<String, LongAdder> counters, String endpoint) {
+        return counters.computeIfAbsent(endpoint, key -> new LongAdder());
+    }
+
+    private static Map<String, Long> snapshot(Map<String, LongAdder> counters) {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counters.forEach((endpoint, count) -> snapshot.put(endpoint, count.sum()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * A token bucket that lends permits ahead of time: a reservation may drive the balance negative, and the caller
+     * waits until the refill would have covered it. Waiters are therefore served in reservation order.
+     */
+    private static final class Bucket {
+        private final double permitsPerNano;
+        private final double capacity;
+        private double permits;
+        private long refilledAtNanos;
+
+        private Bucket(double permitsPerSecond, int burst) {
+            this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = burst;
+            this.permits = burst;
+            this.refilledAtNanos = System.nanoTime();
+        }
+
+        boolean isUnlimited() {
+            return permitsPerNano <= 0;
+        }
+
+        synchronized long reserve(long nowNanos, long maxWaitNanos) {
+            if (nowNanos > refilledAtNanos) {
+                permits = Math.min(capacity, permits + (nowNanos - refilledAtNanos) * permitsPerNano);
+                refilledAtNanos = nowNanos;
+            }
+            long wait = permits >= 1 ? 0 : (long) Math.ceil((1 - permits) / permitsPerNano);
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            permits -= 1;
+            return wait;
+        }
+    }
+}
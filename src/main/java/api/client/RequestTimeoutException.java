@@ -0,0 +1,55 @@
+package api.client;
+
+/**
+ * Thrown when a call did not complete before its {@link Deadline}; the in-flight exchange has been abandoned by then.
+ * {@link RestClient} turns it into a timed-out {@link ResponseWrapper}. A call that ran out of time waiting for a
+ * local resource, such as a rate-limit or in-flight permit or a pooled connection, never reached the service and is
+ * {@link #isNotSent() not sent}.
+ */
+public class RequestTimeoutException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final String method;
+    private final String path;
+    private final String deadlineOwner;
+    private final boolean notSent;
+
+    public RequestTimeoutException(ApiRequest request, Throwable cause) {
+        this(request, cause, false);
+    }
+
+    private RequestTimeoutException(ApiRequest request, Throwable cause, boolean notSent) {
+        super("HTTP " + request.getMethod() + " " + request.getPath() + " timed out"
+                + (request.getDeadline() == null ? "" : " (" + request.getDeadline().getOwner() + " deadline exceeded)"), cause);
+        this.method = request.getMethod();
+        this.path = request.getPath();
+        this.deadlineOwner = request.getDeadline() == null ? null : request.getDeadline().getOwner();
+        this.notSent = notSent;
+    }
+
+    /**
+     * A timeout of a call that was still waiting on the client side and never sent.
+     */
+    public static RequestTimeoutException notSent(ApiRequest request, Throwable cause) {
+        return new RequestTimeoutException(request, cause, true);
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Which deadline ran out: {@code request} for the per-call timeout, otherwise the test that set it.
+     */
+    public String getDeadlineOwner() {
+        return deadlineOwner;
+    }
+
+    public boolean isNotSent() {
+        return notSent;
+    }
+}
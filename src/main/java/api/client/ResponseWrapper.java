@@ -1,68 +1,218 @@
 package api.client;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import common.env.ConfigFactoryProvider;
 import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.Assert;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Typed view over a response. The raw body, the decoded entity and each decoded error type are computed once and
+ * cached, so repeated {@link #readEntity()} / {@link #readError(Class)} calls are free.
+ * <p>
+ * {@link #release()} drops the underlying REST Assured response and raw body while keeping the status code and
+ * whatever was decoded; with {@code http.response.release.after.decode=true} this happens automatically after the
+ * first successful {@link #readEntity()}.
+ * <p>
+ * A call that ran past its deadline produces a {@link #isTimedOut() timed-out} wrapper: it has no response, and
+ * every accessor fails with an {@link AssertionError} naming the call and the deadline that was exceeded.
+ */
 public class ResponseWrapper<T> {
 
-    private final Response response;
+    private static final boolean RELEASE_AFTER_DECODE = ConfigFactoryProvider.apiConfig().httpResponseReleaseAfterDecode();
+    private Response response;
     private final Class<T> responseClass;
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
-            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-            .configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true)
-            .configure(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY, true)
-            .configure(DeserializationFeature.FAIL_ON_NUMBERS_FOR_ENUMS, false);
     private static final Logger logger = LoggerFactory.getLogger(ResponseWrapper.class);
+    private final Map<Class<?>, Object> errors = new ConcurrentHashMap<>();
+    private byte[] body;
+    private T entity;
+    private boolean released;
+    private int releasedStatusCode;
+    private String releasedContentType;
+    private RequestTimeoutException timeout;
+    private long latencyNanos = -1;
 
     public ResponseWrapper(Response response, Class<T> responseClass) {
         this.response = response;
         this.responseClass = responseClass;
     }
 
+    static <T> ResponseWrapper<T> timedOut(RequestTimeoutException timeout, Class<T> responseClass) {
+        ResponseWrapper<T> wrapper = new ResponseWrapper<>(null, responseClass);
+        wrapper.timeout = timeout;
+        return wrapper;
+    }
+
+    /**
+     * Sets the time the service took on the call's last attempt, or a negative value when no attempt was sent.
+     */
+    ResponseWrapper<T> withLatency(long latencyNanos) {
+        this.latencyNanos = latencyNanos;
+        return this;
+    }
+
+    /**
+     * Time the service took on the call's last attempt, from handing it to the transport until its response or
+     * timeout. Rate-limiter and in-flight waits, earlier attempts and retry backoff are not included.
+     */
+    public Duration getLatency() {
+        if (latencyNanos < 0) {
+            throw new IllegalStateException("Latency was not recorded for this response, no attempt was sent");
+        }
+        return Duration.ofNanos(latencyNanos);
+    }
+
+    public boolean isTimedOut() {
+        return timeout != null;
+    }
+
     public Response getResponse() {
+        if (timeout != null) {
+            throw new AssertionError(timeout.getMessage(), timeout);
+        }
+        if (released) {
+            throw new IllegalStateException("Response was released; only the status code and decoded bodies are kept");
+        }
         if (response == null) {
             throw new IllegalStateException("Response is null");
         }
         return response;
     }
 
+    public int getStatusCode() {
+        return released ? releasedStatusCode : getResponse().getStatusCode();
+    }
+
     public T readEntity() {
-        String body = response.getBody().asString();
-        if (body == null || body.isEmpty()) {
+        if (entity != null) {
+            return entity;
+        }
+        byte[] body = body();
+        if (body == null || body.length == 0) {
             throw new AssertionError("Response body is empty; cannot map to " + responseClass.getSimpleName());
         }
         try {
             logger.debug("Deserializing response to {}", responseClass.getSimpleName());
-            return OBJECT_MAPPER.readValue(body, responseClass);
+            entity = JsonCodecs.read(body, responseClass);
         } catch (Exception e) {
             throw new AssertionError("Failed to deserialize response to " + responseClass.getSimpleName() +
-                    ": " + body, e);
+                    ": " + asText(body), e);
+        }
+        if (RELEASE_AFTER_DECODE) {
+            release();
         }
+        return entity;
+    }
+
+    /**
+     * Lazily reads the elements of the top-level array {@code arrayField} from the buffered body without binding the
+     * enclosing object.
+     * Elements failing {@code filter} are skipped; when {@code fields} is non-empty only those JSON properties are
+     * bound and the rest are left null (the filter sees the projected element). Pass null for either to disable it.
+     * Close the stream if it is not consumed to the end.
+     */
+    public <E> Stream<E> streamArray(String arrayField, Class<E> elementClass, Predicate<? super E> filter, Set<String> fields) {
+        JsonArrayIterator<E> iterator = new JsonArrayIterator<>(body(), arrayField,
+                elementClass, filter, fields);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
     }
 
     public ResponseWrapper<T> expectingStatusCode(int statusCode) {
-        int actual = response.getStatusCode();
+        int actual = getStatusCode();
         Assert.assertEquals(actual,statusCode, "Expected HTTP status code " + statusCode + ", but was " + actual);
         return this;
     }
 
+    /**
+     * Fails unless the call completed in less than {@code limit}. A timed-out call always fails.
+     */
+    public ResponseWrapper<T> expectingLatencyBelow(Duration limit) {
+        if (timeout != null) {
+            throw new AssertionError("Expected latency below " + limit.toMillis() + " ms, but " + timeout.getMessage(), timeout);
+        }
+        long actualMillis = getLatency().toMillis();
+        Assert.assertTrue(getLatency().compareTo(limit) < 0,
+                "Expected latency below " + limit.toMillis() + " ms, but was " + actualMillis + " ms");
+        return this;
+    }
+
     public <E> E readError(Class<E> errorClass) {
-        String body = response.getBody().asString();
-        if (body == null || body.isEmpty()) {
+        Object cached = errors.get(errorClass);
+        if (cached != null) {
+            return errorClass.cast(cached);
+        }
+        byte[] body = body();
+        if (body == null || body.length == 0) {
             throw new AssertionError("Response body is empty; cannot map to " + errorClass.getSimpleName());
         }
 
         try {
             logger.debug("Deserializing error body to {}", errorClass.getSimpleName());
-            return OBJECT_MAPPER.readValue(body, errorClass);
+            E error = JsonCodecs.read(body, errorClass);
+            errors.put(errorClass, error);
+            return error;
         } catch (Exception e) {
             throw new AssertionError("Failed to parse error body to " + errorClass.getSimpleName()
-                    + ". Raw response: " + body, e);
+                    + ". Raw response: " + asText(body), e);
+        }
+    }
+
+    /**
+     * Raw response body, read once from the underlying response.
+     */
+    public byte[] body() {
+        if (body == null) {
+            if (released) {
+                throw new IllegalStateException("Response was released; the raw body is no longer available");
+            }
+            body = getResponse().getBody().asByteArray();
+        }
+        return body;
+    }
+
+    /**
+     * Drops the REST Assured response and the raw body so a long-lived wrapper only retains the status code and the
+     * entity / error bodies decoded so far.
+     */
+    public ResponseWrapper<T> release() {
+        if (!released && response != null) {
+            releasedStatusCode = response.getStatusCode();
+            releasedContentType = response.getContentType();
+        }
+        released = true;
+        response = null;
+        body = null;
+        return this;
+    }
+
+    /**
+     * Bodies are parsed straight from the raw bytes; the text form is only built for failure messages.
+     */
+    private String asText(byte[] body) {
+        Charset charset = StandardCharsets.UTF_8;
+        String contentType = released ? releasedContentType : response.getContentType();
+        int charsetAt = contentType == null ? -1 : contentType.toLowerCase().indexOf("charset=");
+        if (charsetAt >= 0) {
+            try {
+                charset = Charset.forName(contentType.substring(charsetAt + 8).split(";")[0].trim().replace("\"", ""));
+            } catch (IllegalArgumentException e) {
+                logger.debug("Unknown charset in content type '{}', decoding body as UTF-8", contentType);
+            }
         }
+        return new String(body, charset);
     }
 
 }
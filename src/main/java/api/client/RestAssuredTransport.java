@@ -0,0 +1,135 @@
+package api.client;
+
+import static io.restassured.RestAssured.given;
+
+import java.io.InterruptedIOException;
+import java.net.http.HttpClient;
+import java.util.concurrent.CompletableFuture;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import common.env.ConfigFactoryProvider;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.params.CoreConnectionPNames;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.qameta.allure.restassured.AllureRestAssured;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.LogConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.parsing.Parser;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Default backend: REST Assured over the shared {@link ConnectionPool}, with request/response logging and Allure
+ * attachments. REST Assured has no non-blocking mode, so async calls are handed to a {@link JdkHttpTransport}.
+ * <p>
+ * Apache HttpClient 4 cannot cancel a blocking exchange from outside, so a call's {@link ApiRequest#getDeadline()
+ * deadline} bounds the connection lease, the connect and every socket read instead; a hung connection then fails
+ * with a socket timeout by the deadline rather than blocking the worker forever.
+ */
+@SuppressWarnings("deprecation")
+final class RestAssuredTransport implements HttpTransport {
+    private static final Logger logger = LoggerFactory.getLogger(RestAssuredTransport.class);
+    // Shared by every client so all requests lease connections from the same pool
+    private static final RestAssuredConfig restAssuredConfig = RestAssured.config()
+            .logConfig(LogConfig.logConfig().enableLoggingOfRequestAndResponseIfValidationFails())
+            .httpClient(HttpClientConfig.httpClientConfig()
+                    .httpClientFactory(ConnectionPool::httpClient)
+                    .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, ConfigFactoryProvider.apiConfig().httpConnectTimeoutMs()));
+
+    private final RequestSpecification requestSpecification;
+    private final JdkHttpTransport asyncDelegate;
+
+    RestAssuredTransport(Configuration configuration) {
+        logger.info("Initializing RestClient with baseUri={}, contentType={}",
+                configuration.getServicePath(), configuration.getContentType());
+        // Ensure default parser is JSON for all API clients
+        RestAssured.defaultParser = Parser.JSON;
+        requestSpecification = new RequestSpecBuilder()
+                .setConfig(restAssuredConfig)
+                .setBaseUri(configuration.getServicePath())
+                .setContentType(configuration.getContentType())
+                .log(io.restassured.filter.log.LogDetail.ALL)
+                .addFilter(new AllureRestAssured())
+                .build();
+        asyncDelegate = new JdkHttpTransport(configuration, HttpClient.Version.HTTP_1_1);
+    }
+
+    @Override
+    public Response execute(ApiRequest request) {
+        RequestSpecification specification = given().spec(requestSpecification);
+        if (request.getDeadline() != null) {
+            specification.config(withDeadline(request));
+        }
+        try {
+            return execute(request, specification);
+        } catch (Exception e) {
+            // REST Assured rethrows IOExceptions unchecked; socket, connect and lease timeouts are all InterruptedIOExceptions
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof ConnectionPoolTimeoutException) {
+                    throw RequestTimeoutException.notSent(request, cause);
+                }
+                if (cause instanceof InterruptedIOException) {
+                    throw new RequestTimeoutException(request, cause);
+                }
+            }
+            throw e;
+        }
+    }
+
+    private Response execute(ApiRequest request, RequestSpecification specification) {
+        if (request.getTarget() != null) {
+            if (request.getBody() != null) {
+                specification.body(serialize(request.getBody()));
+            }
+            // Already percent-encoded; REST Assured must not encode it a second time
+            return specification.urlEncodingEnabled(false).request(request.getMethod(), request.getTarget());
+        }
+        if (request.getPathParams() != null) {
+            specification.pathParams(request.getPathParams());
+        }
+        if (request.getQueryParams() != null) {
+            specification.queryParams(request.getQueryParams());
+        }
+        if (request.getBody() != null) {
+            specification.body(serialize(request.getBody()));
+        }
+        return specification.request(request.getMethod(), request.getPath());
+    }
+
+    private static RestAssuredConfig withDeadline(ApiRequest request) {
+        long remainingMillis = request.getDeadline().remainingMillis();
+        if (remainingMillis <= 0) {
+            throw RequestTimeoutException.notSent(request, null);
+        }
+        int timeout = (int) Math.min(Integer.MAX_VALUE, remainingMillis);
+        HttpClientConfig httpClientConfig = restAssuredConfig.getHttpClientConfig();
+        return restAssuredConfig.httpClient(httpClientConfig
+                .setParam(ClientPNames.CONN_MANAGER_TIMEOUT, remainingMillis)
+                .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT,
+                        Math.min(timeout, ConfigFactoryProvider.apiConfig().httpConnectTimeoutMs()))
+                .setParam(CoreConnectionPNames.SO_TIMEOUT, timeout));
+    }
+
+    /**
+     * Bodies go out through the shared {@link JsonCodecs} rather than REST Assured's own object mapper; the text
+     * form keeps request logging and Allure attachments readable.
+     */
+    private static String serialize(Object body) {
+        try {
+            return JsonCodecs.writeAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize payload: " + body, e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Response> executeAsync(ApiRequest request) {
+        return asyncDelegate.executeAsync(request);
+    }
+}
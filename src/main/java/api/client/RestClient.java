@@ -1,27 +1,34 @@
 package api.client;
 
-import static io.restassured.RestAssured.given;
-
+import java.time.Duration;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
+import common.env.ConfigFactoryProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.qameta.allure.restassured.AllureRestAssured;
-import io.restassured.RestAssured;
-import io.restassured.builder.RequestSpecBuilder;
-import io.restassured.config.LogConfig;
-import io.restassured.config.RestAssuredConfig;
-import io.restassured.parsing.Parser;
 import io.restassured.response.Response;
-import io.restassured.specification.RequestSpecification;
 
 public abstract class RestClient {
     protected static final Logger logger = LoggerFactory.getLogger(RestClient.class);
+    private static final Semaphore inFlightLimit = newInFlightLimit();
+    private static final RetryPolicy retryPolicy = RetryPolicy.getInstance();
+    private static final RateLimiter rateLimiter = RateLimiter.getInstance();
+    private static final LatencyHistograms latencies = LatencyHistograms.getInstance();
+    private static final TrafficRecorder recorder = TrafficRecorder.getInstance();
+    private static final Duration requestTimeout = Duration.ofMillis(ConfigFactoryProvider.apiConfig().httpRequestTimeoutMs());
     protected Configuration configuration;
-    private RequestSpecification requestSpecification;
-    private RestAssuredConfig restAssuredConfig = RestAssured.config()
-            .logConfig(LogConfig.logConfig().enableLoggingOfRequestAndResponseIfValidationFails());
+    private HttpTransport transport;
+    private CircuitBreaker circuitBreaker;
+    private Executor asyncExecutor = JdkHttpTransport.defaultExecutor();
+    private volatile boolean housekeeping;
 
     protected abstract Configuration defaultConfiguration();
 
@@ -31,75 +38,397 @@ public abstract class RestClient {
 
     private void getSession() {
         configuration = defaultConfiguration();
-        logger.info("Initializing RestClient with baseUri={}, contentType={}",
-                configuration.getServicePath(), configuration.getContentType());
-        // Ensure default parser is JSON for all API clients
-        RestAssured.defaultParser = Parser.JSON;
-        requestSpecification = new RequestSpecBuilder()
-                .setConfig(restAssuredConfig)
-                .setBaseUri(configuration.getServicePath())
-                .setContentType(configuration.getContentType())
-                .log(io.restassured.filter.log.LogDetail.ALL)
-                .addFilter(new AllureRestAssured())
-                .build();
+        transport = HttpTransports.forConfiguration(configuration);
+        circuitBreaker = CircuitBreaker.forService(configuration.getServicePath());
+    }
+
+    private static Semaphore newInFlightLimit() {
+        if (!ConfigFactoryProvider.appConfig().virtualThreads()) {
+            return null;
+        }
+        int permits = ConfigFactoryProvider.appConfig().virtualThreadsMaxConcurrency();
+        logger.info("Virtual-thread mode: at most {} blocking HTTP calls in flight", permits);
+        return new Semaphore(permits, true);
+    }
+
+    /**
+     * Sets the executor that completes the futures returned by the {@code *Async} methods of this client.
+     * Defaults to a shared pool sized by {@code http.async.threads}.
+     */
+    public void setAsyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Marks the calls of this client as housekeeping, e.g. fixture provisioning and cleanup. Their latencies are
+     * recorded apart from the calls the tests make, so they never count against a latency SLO.
+     */
+    public void setHousekeeping(boolean housekeeping) {
+        this.housekeeping = housekeeping;
     }
 
     public <F> ResponseWrapper<F> get(String path, Class<F> responseClass) {
         logger.info("HTTP GET {}", path);
-        Response response = given()
-                .spec(requestSpecification)
-                .get(path);
-        logger.info("HTTP GET {} -> {} ({} ms)", path, response.getStatusCode(), response.getTime());
-        return new ResponseWrapper<>(response, responseClass);
+        return exchange(new ApiRequest("GET", path, null, null, null).idempotent(), responseClass, false);
     }
 
     public <F> ResponseWrapper<F> get(String path, String pathParamName, Object pathParamValue, Map<String, Object> queryParams, Class<F> responseClass) {
         logger.info("HTTP GET {}", path);
         logger.debug("Path param: {}={}, query params: {}", pathParamName, pathParamValue, queryParams);
-        Response response = given()
-                .spec(requestSpecification)
-                .pathParam(pathParamName, pathParamValue)
-                .queryParams(queryParams)
-                .get(path);
-        logger.info("HTTP GET {} -> {} ({} ms)", path, response.getStatusCode(), response.getTime());
-        response.then().log().all();
-        return new ResponseWrapper<>(response, responseClass);
+        return exchange(new ApiRequest("GET", path,
+                Collections.singletonMap(pathParamName, pathParamValue), queryParams, null).idempotent(), responseClass, true);
     }
 
     protected <T, F> ResponseWrapper<F> post(String path, T payload, Class<F> responseClass) {
         logger.info("HTTP POST {}", path);
         logger.debug("Payload: {}", payload);
-        Response response = given()
-                .spec(requestSpecification)
-                .body(payload)
-                .post(path);
-        logger.info("HTTP POST {} -> {} ({} ms)", path, response.getStatusCode(), response.getTime());
-        response.then().log().all();
-        return new ResponseWrapper<>(response, responseClass);
+        return exchange(new ApiRequest("POST", path, null, null, payload), responseClass, true);
     }
 
     protected <T, F> ResponseWrapper<F> patch(String path, Map<String, Object> pathParams, T payload, Class<F> responseClass) {
         logger.info("HTTP PATCH {}", path);
         logger.debug("Path params: {}, payload: {}", pathParams, payload);
-        Response response = given()
-                .spec(requestSpecification)
-                .pathParams(pathParams)
-                .body(payload)
-                .patch(path);
-        logger.info("HTTP PATCH {} -> {} ({} ms)", path, response.getStatusCode(), response.getTime());
-        return new ResponseWrapper<>(response, responseClass);
+        return exchange(new ApiRequest("PATCH", path, pathParams, null, payload), responseClass, false);
     }
 
     protected <T> Response delete(String path, Map<String, Object> pathParam, T payload) {
         logger.info("HTTP DELETE {}", path);
         logger.debug("Path params: {}, payload: {}", pathParam, payload);
-        Response response = given()
-                .spec(requestSpecification)
-                .pathParams(pathParam)
-                .body(payload)
-                .delete(path);
-        logger.info("HTTP DELETE {} -> {} ({} ms)", path, response.getStatusCode(), response.getTime());
+        long start = System.nanoTime();
+        Response response = executeRecorded(new ApiRequest("DELETE", path, pathParam, null, payload), new long[] {-1});
+        logger.info("HTTP DELETE {} -> {} ({} ms)", path, response.getStatusCode(), elapsedMillis(start));
         response.then().log().all();
         return response;
     }
+
+    /**
+     * Sends a prepared request, typically one with a pre-encoded {@link ApiRequest#getTarget() target}.
+     */
+    protected <F> ResponseWrapper<F> send(ApiRequest request, Class<F> responseClass) {
+        logger.info("HTTP {} {}", request.getMethod(), request.getPath());
+        logger.debug("Target: {}, payload: {}", request.getTarget(), request.getBody());
+        return exchange(request, responseClass, true);
+    }
+
+    /**
+     * Like {@link #send(ApiRequest, Class)}, without printing the response; for tools issuing calls in bulk.
+     */
+    protected <F> ResponseWrapper<F> sendQuietly(ApiRequest request, Class<F> responseClass) {
+        return exchange(request, responseClass, false);
+    }
+
+    /**
+     * Executes a call and wraps the outcome. A call that ran past its deadline yields a
+     * {@link ResponseWrapper#isTimedOut() timed-out} wrapper rather than an exception.
+     */
+    private <F> ResponseWrapper<F> exchange(ApiRequest request, Class<F> responseClass, boolean logResponse) {
+        long start = System.nanoTime();
+        long[] attemptNanos = {-1};
+        Response response;
+        try {
+            response = executeRecorded(request, attemptNanos);
+        } catch (RequestTimeoutException e) {
+            logger.warn("HTTP {} {} -> timed out ({} ms)", request.getMethod(), request.getPath(), elapsedMillis(start));
+            return ResponseWrapper.timedOut(e, responseClass).withLatency(attemptNanos[0]);
+        }
+        logger.info("HTTP {} {} -> {} ({} ms)", request.getMethod(), request.getPath(), response.getStatusCode(), elapsedMillis(start));
+        if (logResponse) {
+            response.then().log().all();
+        }
+        return new ResponseWrapper<>(response, responseClass).withLatency(attemptNanos[0]);
+    }
+
+    /**
+     * Executes a call and, when recording is on, journals it in the {@link TrafficRecorder} with the service time of
+     * its last attempt, which {@code attemptNanos[0]} holds afterwards. Calls of which no attempt was sent, e.g.
+     * those rejected by an open circuit or refused by a local limit, never reached the service and are not recorded.
+     */
+    private Response executeRecorded(ApiRequest request, long[] attemptNanos) {
+        try {
+            Response response = execute(request, attemptNanos);
+            if (attemptNanos[0] >= 0) {
+                recorder.record(request, response, attemptNanos[0]);
+            }
+            return response;
+        } catch (Exception e) {
+            recordFailure(request, e, attemptNanos[0]);
+            throw e;
+        }
+    }
+
+    private void recordFailure(ApiRequest request, Throwable error, long attemptNanos) {
+        if (attemptNanos >= 0) {
+            recorder.recordFailure(request, unwrap(error) instanceof RequestTimeoutException, attemptNanos);
+        }
+    }
+
+    /**
+     * Records one attempt that was handed to the transport in {@link LatencyHistograms}. Failures the transport
+     * reports before sending anything, such as a connection-pool timeout, say nothing about the service and are left
+     * out.
+     */
+    private void recordAttempt(ApiRequest request, Response response, Throwable error, long elapsedNanos) {
+        if (error == null) {
+            latencies.record(request, LatencyHistograms.statusClass(response.getStatusCode()), housekeeping, elapsedNanos);
+            return;
+        }
+        Throwable cause = unwrap(error);
+        if (cause instanceof RequestTimeoutException) {
+            if (!((RequestTimeoutException) cause).isNotSent()) {
+                latencies.record(request, LatencyHistograms.TIMEOUT, housekeeping, elapsedNanos);
+            }
+        } else {
+            latencies.record(request, LatencyHistograms.ERROR, housekeeping, elapsedNanos);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Runs a blocking call, retrying {@link ApiRequest#isIdempotent() idempotent} requests on transport errors and
+     * 5xx responses as {@link RetryPolicy} allows. Each attempt is bounded by {@code http.request.timeout.ms} and by
+     * the {@link Deadline#current() deadline} of the running test; nothing is retried once the latter has passed.
+     */
+    private Response execute(ApiRequest request, long[] attemptNanos) {
+        Deadline testDeadline = Deadline.current();
+        if (!request.isIdempotent()) {
+            return executeOnce(request.withDeadline(Deadline.forAttempt(requestTimeout, testDeadline)), attemptNanos);
+        }
+        retryPolicy.onCall();
+        for (int retry = 0; ; retry++) {
+            ApiRequest attempt = request.withDeadline(Deadline.forAttempt(requestTimeout, testDeadline));
+            try {
+                Response response = executeOnce(attempt, attemptNanos);
+                if (isExpired(testDeadline) || !retryPolicy.shouldRetry(request, response.getStatusCode(), retry)) {
+                    return response;
+                }
+                logger.warn("HTTP {} {} -> {}, retry {}", request.getMethod(), request.getPath(), response.getStatusCode(), retry + 1);
+                if (!pause(retryPolicy.backoffMillis(retry + 1))) {
+                    return response;
+                }
+            } catch (Exception e) {
+                // REST Assured surfaces IOExceptions without declaring them, hence Exception rather than RuntimeException
+                if (isExpired(testDeadline) || !retryPolicy.shouldRetry(request, e, retry)) {
+                    throw e;
+                }
+                logger.warn("HTTP {} {} failed ({}), retry {}", request.getMethod(), request.getPath(), e.toString(), retry + 1);
+                if (!pause(retryPolicy.backoffMillis(retry + 1))) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs one attempt of a blocking call. The attempt first waits for a {@link RateLimiter} permit for its endpoint,
+     * then goes through the {@link CircuitBreaker}, which rejects it up front while the service is considered down.
+     */
+    private Response executeOnce(ApiRequest request, long[] attemptNanos) {
+        try {
+            if (!rateLimiter.acquire(request, request.getDeadline().remainingMillis())) {
+                throw RequestTimeoutException.notSent(request, null);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rate limited on HTTP " + request.getMethod() + " " + request.getPath(), e);
+        }
+        return executeLimited(request, attemptNanos);
+    }
+
+    /**
+     * Runs a blocking call on the configured transport. In virtual-thread mode the number of calls in flight is
+     * capped at {@code test.virtual.threads.max.concurrency}, which {@link ConnectionPool} sizes the pool to, so
+     * virtual threads wait here, unpinned, rather than for a pooled connection deep inside the HTTP client. The wait
+     * comes before the circuit breaker: running out of local permits says nothing about the service,
+     * so neither that timeout nor the time spent queueing is counted against it.
+     */
+    private Response executeLimited(ApiRequest request, long[] attemptNanos) {
+        if (inFlightLimit == null) {
+            return executeThroughBreaker(request, attemptNanos);
+        }
+        try {
+            if (!inFlightLimit.tryAcquire(request.getDeadline().remainingMillis(), TimeUnit.MILLISECONDS)) {
+                throw RequestTimeoutException.notSent(request, null);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to send HTTP " + request.getMethod() + " " + request.getPath(), e);
+        }
+        try {
+            return executeThroughBreaker(request, attemptNanos);
+        } finally {
+            inFlightLimit.release();
+        }
+    }
+
+    /**
+     * Sends one attempt. Only the time spent in the transport is measured, recorded and stored in
+     * {@code attemptNanos[0]}; waits for permits and retry backoff happen around it.
+     */
+    private Response executeThroughBreaker(ApiRequest request, long[] attemptNanos) {
+        long ticket = circuitBreaker.acquire(request);
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = transport.execute(request);
+        } catch (Exception e) {
+            long elapsedNanos = System.nanoTime() - start;
+            circuitBreaker.onError(ticket, elapsedNanos, e);
+            onAttemptFailed(request, e, elapsedNanos, attemptNanos);
+            throw e;
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        circuitBreaker.onResponse(ticket, elapsedNanos, response.getStatusCode());
+        recordAttempt(request, response, null, elapsedNanos);
+        attemptNanos[0] = elapsedNanos;
+        return response;
+    }
+
+    private void onAttemptFailed(ApiRequest request, Throwable error, long elapsedNanos, long[] attemptNanos) {
+        recordAttempt(request, null, error, elapsedNanos);
+        Throwable cause = unwrap(error);
+        if (!(cause instanceof RequestTimeoutException && ((RequestTimeoutException) cause).isNotSent())) {
+            attemptNanos[0] = elapsedNanos;
+        }
+    }
+
+    private static boolean pause(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean isExpired(Deadline deadline) {
+        return deadline != null && deadline.isExpired();
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    public <F> CompletableFuture<ResponseWrapper<F>> getAsync(String path, Map<String, Object> pathParams, Map<String, Object> queryParams, Class<F> responseClass) {
+        return sendAsync(new ApiRequest("GET", path, pathParams, queryParams, null).idempotent(), responseClass);
+    }
+
+    protected <T, F> CompletableFuture<ResponseWrapper<F>> postAsync(String path, T payload, Class<F> responseClass) {
+        return sendAsync(new ApiRequest("POST", path, null, null, payload), responseClass);
+    }
+
+    protected <T, F> CompletableFuture<ResponseWrapper<F>> patchAsync(String path, Map<String, Object> pathParams, T payload, Class<F> responseClass) {
+        return sendAsync(new ApiRequest("PATCH", path, pathParams, null, payload), responseClass);
+    }
+
+    protected <T> CompletableFuture<ResponseWrapper<Void>> deleteAsync(String path, Map<String, Object> pathParam, T payload) {
+        return sendAsync(new ApiRequest("DELETE", path, pathParam, null, payload), Void.class);
+    }
+
+    protected <F> CompletableFuture<ResponseWrapper<F>> sendAsync(ApiRequest request, Class<F> responseClass) {
+        logger.info("HTTP {} {} (async)", request.getMethod(), request.getPath());
+        logger.debug("Path params: {}, query params: {}, payload: {}",
+                request.getPathParams(), request.getQueryParams(), request.getBody());
+        long start = System.nanoTime();
+        long[] attemptNanos = {-1};
+        return executeAsync(request, Deadline.current(), attemptNanos)
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        recordFailure(request, error, attemptNanos[0]);
+                    } else if (attemptNanos[0] >= 0) {
+                        recorder.record(request, response, attemptNanos[0]);
+                    }
+                })
+                .handleAsync((response, error) -> {
+                    if (error == null) {
+                        logger.info("HTTP {} {} -> {} ({} ms, async)", request.getMethod(), request.getPath(),
+                                response.getStatusCode(), elapsedMillis(start));
+                        return new ResponseWrapper<>(response, responseClass).withLatency(attemptNanos[0]);
+                    }
+                    Throwable cause = unwrap(error);
+                    if (cause instanceof RequestTimeoutException) {
+                        logger.warn("HTTP {} {} -> timed out ({} ms, async)", request.getMethod(), request.getPath(),
+                                elapsedMillis(start));
+                        return ResponseWrapper.timedOut((RequestTimeoutException) cause, responseClass)
+                                .withLatency(attemptNanos[0]);
+                    }
+                    throw error instanceof CompletionException ? (CompletionException) error : new CompletionException(error);
+                }, asyncExecutor);
+    }
+
+    /**
+     * Async counterpart of {@link #execute(ApiRequest, long[])}; {@code testDeadline} is captured on the calling
+     * thread.
+     */
+    private CompletableFuture<Response> executeAsync(ApiRequest request, Deadline testDeadline, long[] attemptNanos) {
+        if (!request.isIdempotent()) {
+            return executeOnceAsync(request.withDeadline(Deadline.forAttempt(requestTimeout, testDeadline)), attemptNanos);
+        }
+        retryPolicy.onCall();
+        return executeAsync(request, testDeadline, 0, attemptNanos);
+    }
+
+    /**
+     * Async counterpart of {@link #executeOnce(ApiRequest, long[])}: a rate-limited attempt is scheduled for when its
+     * permit becomes usable instead of blocking a thread.
+     */
+    private CompletableFuture<Response> executeOnceAsync(ApiRequest request, long[] attemptNanos) {
+        long waitNanos = rateLimiter.reserve(request, request.getDeadline().remainingMillis());
+        if (waitNanos < 0) {
+            return CompletableFuture.failedFuture(RequestTimeoutException.notSent(request, null));
+        }
+        if (waitNanos == 0) {
+            return sendAsyncThroughBreaker(request, attemptNanos);
+        }
+        Executor delayed = CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS, asyncExecutor);
+        return CompletableFuture.runAsync(() -> {}, delayed)
+                .thenCompose(ignored -> sendAsyncThroughBreaker(request, attemptNanos));
+    }
+
+    private CompletableFuture<Response> sendAsyncThroughBreaker(ApiRequest request, long[] attemptNanos) {
+        long ticket;
+        try {
+            ticket = circuitBreaker.acquire(request);
+        } catch (CircuitOpenException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        long start = System.nanoTime();
+        return transport.executeAsync(request)
+                .whenComplete((response, error) -> {
+                    long elapsedNanos = System.nanoTime() - start;
+                    if (error == null) {
+                        circuitBreaker.onResponse(ticket, elapsedNanos, response.getStatusCode());
+                        recordAttempt(request, response, null, elapsedNanos);
+                        attemptNanos[0] = elapsedNanos;
+                    } else {
+                        circuitBreaker.onError(ticket, elapsedNanos, error);
+                        onAttemptFailed(request, error, elapsedNanos, attemptNanos);
+                    }
+                });
+    }
+
+    private CompletableFuture<Response> executeAsync(ApiRequest request, Deadline testDeadline, int retry,
+                                                     long[] attemptNanos) {
+        return executeOnceAsync(request.withDeadline(Deadline.forAttempt(requestTimeout, testDeadline)), attemptNanos)
+                .handle((response, error) -> {
+                    boolean again = !isExpired(testDeadline) && (error == null
+                            ? retryPolicy.shouldRetry(request, response.getStatusCode(), retry)
+                            : retryPolicy.shouldRetry(request, error, retry));
+                    if (!again) {
+                        return error == null
+                                ? CompletableFuture.completedFuture(response)
+                                : CompletableFuture.<Response>failedFuture(error);
+                    }
+                    logger.warn("HTTP {} {} -> {}, retry {} (async)", request.getMethod(), request.getPath(),
+                            error == null ? response.getStatusCode() : error.toString(), retry + 1);
+                    Executor delayed = CompletableFuture.delayedExecutor(
+                            retryPolicy.backoffMillis(retry + 1), TimeUnit.MILLISECONDS, asyncExecutor);
+                    return CompletableFuture.runAsync(() -> {}, delayed)
+                            .thenCompose(ignored -> executeAsync(request, testDeadline, retry + 1, attemptNanos));
+                })
+                .thenCompose(Function.identity());
+    }
 }
@@ -0,0 +1,123 @@
+package api.client;
+
+import common.env.AppConfig;
+import common.env.ConfigFactoryProvider;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides whether an idempotent call is repeated after a transport error or a 5xx response.
+ * <p>
+ * A call is retried at most {@code test.retry.count} times, waiting a random time between zero and
+ * {@code test.retry.backoff.ms * 2^(retry - 1)} (capped at {@code test.retry.max.backoff.ms}) before each retry.
+ * Retries are also limited by a budget shared by all clients: every idempotent call earns
+ * {@code test.retry.budget.ratio} of a retry and the balance never exceeds {@code test.retry.budget.max}. When the
+ * environment fails everything, retries therefore add at most that ratio of extra load instead of multiplying it.
+ */
+public final class RetryPolicy {
+    private static final long SCALE = 1000;
+    private static final RetryPolicy instance = new RetryPolicy(ConfigFactoryProvider.appConfig());
+
+    private final int maxRetries;
+    private final long backoffMs;
+    private final long maxBackoffMs;
+    private final long earnedPerCall;
+    private final long budgetCap;
+    // retry budget in thousandths of a retry
+    private final AtomicLong budget;
+    private final Map<String, LongAdder> retries = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> denied = new ConcurrentHashMap<>();
+
+    RetryPolicy(AppConfig config) {
+        this.maxRetries = config.retryCount();
+        this.backoffMs = config.retryBackoffMs();
+        this.maxBackoffMs = config.retryMaxBackoffMs();
+        this.earnedPerCall = Math.round(config.retryBudgetRatio() * SCALE);
+        this.budgetCap = config.retryBudgetMax() * SCALE;
+        this.budget = new AtomicLong(budgetCap);
+    }
+
+    public static RetryPolicy getInstance() {
+        return instance;
+    }
+
+    /**
+     * Credits the retry budget for one idempotent call. Called once per call, not per attempt.
+     */
+    void onCall() {
+        budget.getAndAccumulate(earnedPerCall, (balance, earned) -> Math.min(budgetCap, balance + earned));
+    }
+
+    /**
+     * Whether a response with {@code statusCode} should be retried; {@code retry} is the number of retries already
+     * made. Takes a retry from the budget when it returns true.
+     */
+    boolean shouldRetry(ApiRequest request, int statusCode, int retry) {
+        return statusCode >= 500 && allow(request, retry);
+    }
+
+    boolean shouldRetry(ApiRequest request, Throwable error, int retry) {
+        return isTransportError(error) && allow(request, retry);
+    }
+
+    /**
+     * Full-jitter delay before retry number {@code retry} (1-based).
+     */
+    long backoffMillis(int retry) {
+        long ceiling = Math.min(maxBackoffMs, backoffMs << Math.min(retry - 1, 20));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * Retries made so far, by endpoint template.
+     */
+    public Map<String, Long> retriesByEndpoint() {
+        return snapshot(retries);
+    }
+
+    /**
+     * Retries that were wanted but refused because the budget was spent, by endpoint template.
+     */
+    public Map<String, Long> deniedByEndpoint() {
+        return snapshot(denied);
+    }
+
+    private boolean allow(ApiRequest request, int retry) {
+        if (retry >= maxRetries) {
+            return false;
+        }
+        long balance;
+        do {
+            balance = budget.get();
+            if (balance < SCALE) {
+                denied.computeIfAbsent(request.getPath(), key -> new LongAdder()).increment();
+                return false;
+            }
+        } while (!budget.compareAndSet(balance, balance - SCALE));
+        retries.computeIfAbsent(request.getPath(), key -> new LongAdder()).increment();
+        return true;
+    }
+
+    private static boolean isTransportError(Throwable error) {
+        // REST Assured rethrows IOExceptions unchecked; the async path wraps them in CompletionException
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException || cause instanceof RequestTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, Long> snapshot(Map<String, LongAdder> counters) {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counters.forEach((endpoint, count) -> snapshot.put(endpoint, count.sum()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+}
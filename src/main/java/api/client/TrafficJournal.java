@@ -0,0 +1,269 @@
+package api.client;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Append-only binary journal of HTTP calls, written through a memory-mapped file of fixed capacity.
+ * <p>
+ * Layout, big-endian: a 16-byte header ({@code int} magic, {@code int} version, {@code long} epoch millis of the
+ * start), then one record per call:
+ * <pre>
+ * int   length of what follows; 0 marks the end of the journal
+ * long  start of the call, nanoseconds after the journal's start
+ * long  latency in nanoseconds, retries included
+ * int   status code, or {@link #TIMEOUT} / {@link #ERROR}
+ * int   response body length from Content-Length, -1 if unknown
+ * long  id of the player a create made, -1 for other calls
+ * byte  flags, {@link #IDEMPOTENT}
+ * short + bytes  method
+ * short + bytes  endpoint template
+ * int   + bytes  resolved path and query
+ * int   + bytes  JSON body, length -1 when there is none
+ * </pre>
+ * Writers reserve their record's space with one atomic add and fill it with absolute puts, so concurrent appends
+ * never contend on a lock; a record's length is written last, after its content. Once the capacity is used up
+ * further records are dropped and counted. Version 1 journals, which have no created id, can still be read.
+ */
+public final class TrafficJournal implements AutoCloseable {
+    public static final int TIMEOUT = -1;
+    public static final int ERROR = -2;
+    public static final byte IDEMPOTENT = 1;
+    private static final int MAGIC = 0x504A524E;
+    private static final int VERSION = 2;
+    private static final int VERSION_WITHOUT_CREATED_ID = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int FIXED_RECORD_BYTES = 8 + 8 + 4 + 4 + 8 + 1 + 2 + 2 + 4 + 4;
+
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final long startNanos;
+    private final AtomicLong position = new AtomicLong(HEADER_BYTES);
+    private final AtomicLong records = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private TrafficJournal(Path file, MappedByteBuffer buffer) {
+        this.file = file;
+        this.buffer = buffer;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Creates, or replaces, a journal able to hold {@code capacityBytes}.
+     */
+    public static TrafficJournal create(Path file, int capacityBytes) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(HEADER_BYTES + 4, capacityBytes));
+            buffer.putInt(0, MAGIC).putInt(4, VERSION).putLong(8, System.currentTimeMillis());
+            return new TrafficJournal(file, buffer);
+        }
+    }
+
+    /**
+     * Appends one call.
+     *
+     * @param startNanos {@link System#nanoTime()} at which the call started
+     * @param createdId  id of the player the call created, or -1
+     * @param body       the request body as JSON, or null
+     * @return false if the journal is full and the call was dropped
+     */
+    public boolean append(long startNanos, long latencyNanos, int statusCode, int responseBytes, long createdId,
+                          boolean idempotent, String method, String template, String target, byte[] body) {
+        byte[] methodBytes = method.getBytes(StandardCharsets.UTF_8);
+        byte[] templateBytes = template.getBytes(StandardCharsets.UTF_8);
+        byte[] targetBytes = target.getBytes(StandardCharsets.UTF_8);
+        int length = FIXED_RECORD_BYTES + methodBytes.length + templateBytes.length + targetBytes.length
+                + (body == null ? 0 : body.length);
+        long start = position.getAndAdd(4 + length);
+        // keep room for the 0 length that ends the journal
+        if (start + 4 + length + 4 > buffer.capacity()) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        int at = (int) start + 4;
+        buffer.putLong(at, startNanos - this.startNanos);
+        buffer.putLong(at + 8, latencyNanos);
+        buffer.putInt(at + 16, statusCode);
+        buffer.putInt(at + 20, responseBytes);
+        buffer.putLong(at + 24, createdId);
+        buffer.put(at + 32, idempotent ? IDEMPOTENT : 0);
+        at += 33;
+        buffer.putShort(at, (short) methodBytes.length).put(at + 2, methodBytes);
+        at += 2 + methodBytes.length;
+        buffer.putShort(at, (short) templateBytes.length).put(at + 2, templateBytes);
+        at += 2 + templateBytes.length;
+        buffer.putInt(at, targetBytes.length).put(at + 4, targetBytes);
+        at += 4 + targetBytes.length;
+        buffer.putInt(at, body == null ? -1 : body.length);
+        if (body != null) {
+            buffer.put(at + 4, body);
+        }
+        buffer.putInt((int) start, length);
+        records.incrementAndGet();
+        return true;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public long getRecords() {
+        return records.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Flushes the journal to disk. Unwritten space reads as zero, which ends the journal where the records stop.
+     */
+    @Override
+    public void close() {
+        buffer.force();
+    }
+
+    /**
+     * Reads every complete record of a journal, in the order their space was reserved.
+     */
+    public static List<Entry> read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+                throw new IOException(file + " is not a traffic journal");
+            }
+            int version = buffer.getInt(4);
+            if (version != VERSION && version != VERSION_WITHOUT_CREATED_ID) {
+                throw new IOException(file + " has journal version " + version + ", expected " + VERSION);
+            }
+            List<Entry> entries = new ArrayList<>();
+            buffer.position(HEADER_BYTES);
+            while (buffer.remaining() >= 4) {
+                int length = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()) {
+                    break;
+                }
+                entries.add(new Entry(buffer.getLong(), buffer.getLong(), buffer.getInt(), buffer.getInt(),
+                        version == VERSION ? buffer.getLong() : -1, (buffer.get() & IDEMPOTENT) != 0,
+                        string(buffer, buffer.getShort()), string(buffer, buffer.getShort()),
+                        string(buffer, buffer.getInt()), bytes(buffer, buffer.getInt())));
+            }
+            // concurrent writers may have finished their records out of reservation order
+            entries.sort((a, b) -> Long.compare(a.offsetNanos, b.offsetNanos));
+            return Collections.unmodifiableList(entries);
+        }
+    }
+
+    private static String string(ByteBuffer buffer, int length) {
+        return new String(bytes(buffer, length), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(ByteBuffer buffer, int length) {
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * One recorded call.
+     */
+    public static final class Entry {
+        private final long offsetNanos;
+        private final long latencyNanos;
+        private final int statusCode;
+        private final int responseBytes;
+        private final long createdId;
+        private final boolean idempotent;
+        private final String method;
+        private final String template;
+        private final String target;
+        private final byte[] body;
+
+        private Entry(long offsetNanos, long latencyNanos, int statusCode, int responseBytes, long createdId,
+                      boolean idempotent, String method, String template, String target, byte[] body) {
+            this.offsetNanos = offsetNanos;
+            this.latencyNanos = latencyNanos;
+            this.statusCode = statusCode;
+            this.responseBytes = responseBytes;
+            this.createdId = createdId;
+            this.idempotent = idempotent;
+            this.method = method;
+            this.template = template;
+            this.target = target;
+            this.body = body;
+        }
+
+        /**
+         * When the call started, relative to the start of the journal.
+         */
+        public long getOffsetNanos() {
+            return offsetNanos;
+        }
+
+        public long getLatencyNanos() {
+            return latencyNanos;
+        }
+
+        /**
+         * Status code, or {@link #TIMEOUT} / {@link #ERROR} for calls that got no response.
+         */
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        public int getResponseBytes() {
+            return responseBytes;
+        }
+
+        /**
+         * Id of the player this call created, or -1 if it was not a successful create.
+         */
+        public long getCreatedId() {
+            return createdId;
+        }
+
+        public boolean isIdempotent() {
+            return idempotent;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getTemplate() {
+            return template;
+        }
+
+        public String getTarget() {
+            return target;
+        }
+
+        /**
+         * The JSON request body, or null.
+         */
+        public byte[] getBody() {
+            return body;
+        }
+
+        @Override
+        public String toString() {
+            return method + " " + target + " -> " + statusCode + " (" + latencyNanos / 1_000_000 + " ms)";
+        }
+    }
+}
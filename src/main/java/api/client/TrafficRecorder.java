@@ -0,0 +1,132 @@
+package api.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import common.env.APIConfig;
+import common.env.ConfigFactoryProvider;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Records every call made through {@link RestClient} into a {@link TrafficJournal} when {@code http.record.journal}
+ * names a file, so a run's exact traffic can be replayed later with {@code api.load.Replayer}.
+ * <p>
+ * A call is recorded once, as the test issued it: its method, endpoint template, resolved path and query, JSON body
+ * and whether it may be retried, with the status and response size it ended with and the time the service took on its
+ * last attempt. Calls of which no attempt was sent, e.g. those rejected by an open circuit, are not recorded. A
+ * successful create also records the id of the player it made, so a replay can map later calls on that player to the
+ * one its own create returns. The journal holds {@code http.record.journal.size.mb}; it
+ * is flushed when the JVM exits.
+ */
+public final class TrafficRecorder {
+    private static final Logger logger = LoggerFactory.getLogger(TrafficRecorder.class);
+    private static final TrafficRecorder instance = new TrafficRecorder(ConfigFactoryProvider.apiConfig());
+
+    private final TrafficJournal journal;
+    private final String createTemplate;
+
+    private TrafficRecorder(APIConfig config) {
+        this.journal = open(config);
+        this.createTemplate = config.endpointPlayerCreate();
+        if (journal != null) {
+            logger.info("Recording HTTP traffic to {}", journal.getFile().toAbsolutePath());
+            Runtime.getRuntime().addShutdownHook(new Thread(this::close, "traffic-journal-close"));
+        }
+    }
+
+    private static TrafficJournal open(APIConfig config) {
+        String file = config.httpRecordJournal();
+        if (file == null || file.isBlank()) {
+            return null;
+        }
+        // one MappedByteBuffer, so at most 2 GB
+        long capacityBytes = config.httpRecordJournalSizeMb() * 1024L * 1024L;
+        if (capacityBytes <= 0 || capacityBytes > Integer.MAX_VALUE) {
+            logger.error("http.record.journal.size.mb must be between 1 and {}, got {}; not recording",
+                    Integer.MAX_VALUE / (1024 * 1024), config.httpRecordJournalSizeMb());
+            return null;
+        }
+        try {
+            return TrafficJournal.create(Paths.get(file), (int) capacityBytes);
+        } catch (IOException e) {
+            logger.error("Cannot open traffic journal {}, not recording", file, e);
+            return null;
+        }
+    }
+
+    public static TrafficRecorder getInstance() {
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return journal != null;
+    }
+
+    /**
+     * The journal being written, or null when recording is off.
+     */
+    public TrafficJournal getJournal() {
+        return journal;
+    }
+
+    void record(ApiRequest request, Response response, long elapsedNanos) {
+        if (journal != null) {
+            append(request, response.getStatusCode(), contentLength(response), createdId(request, response), elapsedNanos);
+        }
+    }
+
+    private long createdId(ApiRequest request, Response response) {
+        if (response.getStatusCode() != 200 || !createTemplate.equals(request.getPath())) {
+            return -1;
+        }
+        try {
+            JsonNode id = JsonCodecs.mapper().readTree(response.asByteArray()).get("id");
+            return id != null && id.canConvertToLong() ? id.asLong() : -1;
+        } catch (IOException e) {
+            logger.debug("Not recording the id created by {} {}: response is not JSON", request.getMethod(), request.getPath(), e);
+            return -1;
+        }
+    }
+
+    private static int contentLength(Response response) {
+        String header = response.getHeader("Content-Length");
+        try {
+            return header == null ? -1 : Integer.parseInt(header.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    void recordFailure(ApiRequest request, boolean timedOut, long elapsedNanos) {
+        if (journal != null) {
+            append(request, timedOut ? TrafficJournal.TIMEOUT : TrafficJournal.ERROR, -1, -1, elapsedNanos);
+        }
+    }
+
+    private void append(ApiRequest request, int statusCode, int responseBytes, long createdId, long elapsedNanos) {
+        byte[] body;
+        try {
+            body = request.getBody() == null ? null : JsonCodecs.writeAsBytes(request.getBody());
+        } catch (JsonProcessingException e) {
+            logger.debug("Not recording {} {}: body cannot be serialized", request.getMethod(), request.getPath(), e);
+            return;
+        }
+        String target = request.getTarget() != null
+                ? request.getTarget()
+                : JdkHttpTransport.resolve("", request.getPath(), request.getPathParams(), request.getQueryParams()).toString();
+        if (!journal.append(System.nanoTime() - elapsedNanos, elapsedNanos, statusCode, responseBytes, createdId,
+                request.isIdempotent(), request.getMethod(), request.getPath(), target, body) && journal.getDropped() == 1) {
+            logger.warn("Traffic journal {} is full, further calls are not recorded", journal.getFile());
+        }
+    }
+
+    private void close() {
+        journal.close();
+        logger.info("Traffic journal {}: {} calls recorded, {} dropped", journal.getFile(), journal.getRecords(),
+                journal.getDropped());
+    }
+}
@@ -0,0 +1,54 @@
+package api.client;
+
+/**
+ * Percent-encodes path segments and query values straight into a caller-supplied buffer, so building a request
+ * target does not create intermediate strings. Everything except RFC 3986 unreserved characters is encoded, as
+ * UTF-8; spaces become {@code %20} in both the path and the query.
+ */
+public final class UriEncoder {
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private UriEncoder() {}
+
+    public static StringBuilder append(StringBuilder target, CharSequence value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (isUnreserved(c)) {
+                target.append(c);
+            } else if (c < 0x80) {
+                appendByte(target, c);
+            } else if (c < 0x800) {
+                appendByte(target, 0xC0 | (c >> 6));
+                appendByte(target, 0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                appendByte(target, 0xF0 | (codePoint >> 18));
+                appendByte(target, 0x80 | ((codePoint >> 12) & 0x3F));
+                appendByte(target, 0x80 | ((codePoint >> 6) & 0x3F));
+                appendByte(target, 0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Lone surrogates are not encodable; substitute '?' like String#getBytes does
+                appendByte(target, '?');
+            } else {
+                appendByte(target, 0xE0 | (c >> 12));
+                appendByte(target, 0x80 | ((c >> 6) & 0x3F));
+                appendByte(target, 0x80 | (c & 0x3F));
+            }
+        }
+        return target;
+    }
+
+    public static String encode(CharSequence value) {
+        return append(new StringBuilder(value.length() + 16), value).toString();
+    }
+
+    private static boolean isUnreserved(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+
+    private static void appendByte(StringBuilder target, int b) {
+        target.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+    }
+}
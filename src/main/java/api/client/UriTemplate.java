@@ -0,0 +1,166 @@
+package api.client;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An endpoint template such as {@code /player/update/{editor}/{id}}, parsed once into literal parts and variables.
+ * <p>
+ * Expansion takes values positionally, writes them into a per-thread buffer and returns the encoded path. Numbers are
+ * appended as is, everything else is percent-encoded; encoded string values are cached since path variables are
+ * mostly the same few editor logins. Templates are interned, so {@link #compile(String)} is cheap after the first call.
+ */
+public final class UriTemplate {
+    private static final int MAX_CACHED_VALUES = 1024;
+    private static final Map<String, UriTemplate> templates = new ConcurrentHashMap<>();
+    private static final Map<String, String> encodedValues = new ConcurrentHashMap<>();
+    private static final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private final String template;
+    // literals.length == variables.size() + 1; literal i precedes variable i
+    private final String[] literals;
+    private final List<String> variables;
+
+    private UriTemplate(String template) {
+        List<String> literalParts = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int from = 0;
+        int open;
+        while ((open = template.indexOf('{', from)) >= 0) {
+            int close = template.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed variable in URI template: " + template);
+            }
+            literalParts.add(template.substring(from, open));
+            names.add(template.substring(open + 1, close));
+            from = close + 1;
+        }
+        literalParts.add(template.substring(from));
+        this.template = template;
+        this.literals = literalParts.toArray(new String[0]);
+        this.variables = Collections.unmodifiableList(names);
+    }
+
+    public static UriTemplate compile(String template) {
+        return templates.computeIfAbsent(template, UriTemplate::new);
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    public List<String> getVariables() {
+        return variables;
+    }
+
+    public String expand() {
+        checkArity(0);
+        return template;
+    }
+
+    public String expand(Object value) {
+        checkArity(1);
+        StringBuilder target = buffer().append(literals[0]);
+        appendValue(target, value);
+        return target.append(literals[1]).toString();
+    }
+
+    public String expand(Object first, Object second) {
+        checkArity(2);
+        StringBuilder target = buffer().append(literals[0]);
+        appendValue(target, first);
+        target.append(literals[1]);
+        appendValue(target, second);
+        return target.append(literals[2]).toString();
+    }
+
+    /**
+     * Appends the expanded path to {@code target}, e.g. to continue with a query string.
+     */
+    public StringBuilder appendTo(StringBuilder target, Object value) {
+        checkArity(1);
+        target.append(literals[0]);
+        appendValue(target, value);
+        return target.append(literals[1]);
+    }
+
+    public StringBuilder appendTo(StringBuilder target, Object... values) {
+        checkArity(values.length);
+        target.append(literals[0]);
+        for (int i = 0; i < values.length; i++) {
+            appendValue(target, values[i]);
+            target.append(literals[i + 1]);
+        }
+        return target;
+    }
+
+    /**
+     * The reverse of expansion: the values of the variables in an already-decoded {@code path}, in template order, or
+     * null if the path does not have the template's shape. A value is a non-empty single path segment.
+     */
+    public String[] match(String path) {
+        if (!path.startsWith(literals[0])) {
+            return null;
+        }
+        String[] values = new String[variables.size()];
+        int position = literals[0].length();
+        for (int i = 0; i < values.length; i++) {
+            String next = literals[i + 1];
+            int end = next.isEmpty() ? path.length() : path.indexOf(next, position);
+            if (end <= position) {
+                return null;
+            }
+            String value = path.substring(position, end);
+            if (value.indexOf('/') >= 0) {
+                return null;
+            }
+            values[i] = value;
+            position = end + next.length();
+        }
+        return position == path.length() ? values : null;
+    }
+
+    /**
+     * The calling thread's reusable buffer, cleared. Valid until the thread's next expansion.
+     */
+    public static StringBuilder buffer() {
+        StringBuilder buffer = buffers.get();
+        buffer.setLength(0);
+        return buffer;
+    }
+
+    private void checkArity(int count) {
+        if (count != variables.size()) {
+            throw new IllegalArgumentException("URI template " + template + " takes " + variables.size()
+                    + " values, got " + count);
+        }
+    }
+
+    private static void appendValue(StringBuilder target, Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("URI template values must not be null");
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            target.append(((Number) value).longValue());
+            return;
+        }
+        String text = value.toString();
+        String encoded = encodedValues.get(text);
+        if (encoded == null) {
+            encoded = UriEncoder.encode(text);
+            if (encodedValues.size() >= MAX_CACHED_VALUES) {
+                encodedValues.clear();
+            }
+            encodedValues.put(text, encoded);
+        }
+        target.append(encoded);
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+}
@@ -0,0 +1,79 @@
+package api.data;
+
+import api.model.response.PlayerResponse;
+import api.requests.PlayerApiClient;
+import common.env.AppConfig;
+import common.env.ConfigFactoryProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Deletes players left behind by runs that never got to clean up after themselves.
+ * <p>
+ * Both sweeps stream {@code /player/get/all} with {@link PlayerApiClient#streamAllPlayers} projected to id and
+ * screenName, keeping only players whose screenName carries a {@link TestDataTag}; unrelated players are never
+ * collected. Matches are handed to {@link PlayerCleanupService}, which deletes them in parallel.
+ */
+public final class OrphanSweeper {
+    private static final Logger logger = LoggerFactory.getLogger(OrphanSweeper.class);
+
+    private final PlayerApiClient apiClient = new PlayerApiClient();
+    private final boolean enabled;
+    private final long staleAfterSeconds;
+
+    public OrphanSweeper() {
+        apiClient.setHousekeeping(true);
+        AppConfig config = ConfigFactoryProvider.appConfig();
+        this.enabled = config.sweeperEnabled();
+        this.staleAfterSeconds = TimeUnit.MINUTES.toSeconds(config.sweeperStaleAfterMinutes());
+    }
+
+    /**
+     * Suite start: queues deletion of players tagged by runs that started more than
+     * {@code test.sweeper.stale.after.minutes} ago. Newer tags are left alone as they may belong to a run still
+     * going on against the same environment.
+     */
+    public int sweepStale() {
+        long cutoff = Instant.now().getEpochSecond() - staleAfterSeconds;
+        return sweep("stale", screenName -> {
+            long startedAt = TestDataTag.runStartedAt(screenName);
+            return startedAt >= 0 && startedAt < cutoff && !TestDataTag.isFromCurrentRun(screenName);
+        });
+    }
+
+    /**
+     * Suite end: queues deletion of every player this run created that is still present.
+     */
+    public int sweepCurrentRun() {
+        return sweep("current-run", TestDataTag::isFromCurrentRun);
+    }
+
+    private int sweep(String kind, Predicate<String> screenNameMatches) {
+        if (!enabled) {
+            return 0;
+        }
+        List<Integer> orphans;
+        try (Stream<PlayerResponse> players = apiClient.streamAllPlayers(
+                player -> screenNameMatches.test(player.getScreenName()), "id", "screenName")) {
+            orphans = players.map(PlayerResponse::getPlayerId).filter(Objects::nonNull).collect(Collectors.toList());
+        } catch (RuntimeException | AssertionError e) {
+            logger.warn("Skipping {} orphan sweep: could not list players", kind, e);
+            return 0;
+        }
+        if (!orphans.isEmpty()) {
+            logger.info("Orphan sweep ({}): deleting {} leftover players", kind, orphans.size());
+            PlayerCleanupService.getInstance().registerAll(orphans);
+        } else {
+            logger.info("Orphan sweep ({}): nothing to delete", kind);
+        }
+        return orphans.size();
+    }
+}
@@ -0,0 +1,223 @@
+package api.data;
+
+import api.client.ResponseWrapper;
+import api.requests.PlayerApiClient;
+import common.env.AppConfig;
+import common.env.ConfigFactoryProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Deletes players created by tests off the test thread.
+ * <p>
+ * Registered IDs are queued and deleted through the async client with at most {@code test.cleanup.parallelism}
+ * deletes in flight. Transport errors, timeouts and 5xx responses are retried with exponential backoff up to
+ * {@code test.cleanup.max.attempts}; 2xx and 404 count as deleted, any other status as a failure. Call
+ * {@link #awaitCompletion(Duration)} once at suite end to wait for the queue to drain and collect the failures.
+ */
+public final class PlayerCleanupService {
+    private static final Logger logger = LoggerFactory.getLogger(PlayerCleanupService.class);
+    private static final PlayerCleanupService instance = new PlayerCleanupService();
+
+    private final PlayerApiClient apiClient = new PlayerApiClient();
+    private final String editor = ConfigFactoryProvider.apiConfig().defaultSupervisorLogin();
+    private final Semaphore permits;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final Queue<Task> queue = new ConcurrentLinkedQueue<>();
+    private final Set<Integer> outstanding = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, String> failures = new ConcurrentHashMap<>();
+    private final AtomicInteger deleted = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition drained = lock.newCondition();
+
+    private PlayerCleanupService() {
+        apiClient.setHousekeeping(true);
+        AppConfig config = ConfigFactoryProvider.appConfig();
+        this.permits = new Semaphore(config.cleanupParallelism());
+        this.maxAttempts = config.cleanupMaxAttempts();
+        this.retryBackoffMs = config.cleanupRetryBackoffMs();
+    }
+
+    public static PlayerCleanupService getInstance() {
+        return instance;
+    }
+
+    /**
+     * Schedules the given players for deletion and returns immediately. Nulls and IDs already queued are ignored.
+     */
+    public void registerAll(Collection<Integer> playerIds) {
+        for (Integer playerId : playerIds) {
+            register(playerId);
+        }
+    }
+
+    public void register(Integer playerId) {
+        if (playerId == null || !outstanding.add(playerId)) {
+            return;
+        }
+        failures.remove(playerId);
+        queue.add(new Task(playerId, 1));
+        drain();
+    }
+
+    /**
+     * Blocks until every registered player has been deleted or has failed for good, or until the timeout elapses.
+     */
+    public CleanupReport awaitCompletion(Duration timeout) {
+        long remainingNanos = timeout.toNanos();
+        lock.lock();
+        try {
+            while (!outstanding.isEmpty() && remainingNanos > 0) {
+                remainingNanos = drained.awaitNanos(remainingNanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+        return new CleanupReport(deleted.get(), new TreeMap<>(failures), new TreeSet<>(outstanding));
+    }
+
+    private void drain() {
+        while (!queue.isEmpty() && permits.tryAcquire()) {
+            Task task = queue.poll();
+            if (task == null) {
+                permits.release();
+                continue;
+            }
+            attempt(task);
+        }
+    }
+
+    private void attempt(Task task) {
+        CompletableFuture<ResponseWrapper<Void>> call;
+        try {
+            call = apiClient.deletePlayerAsync(editor, task.playerId);
+        } catch (RuntimeException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+        call.whenComplete((response, error) -> {
+            permits.release();
+            try {
+                handle(task, response, error);
+            } catch (Throwable e) {
+                // whenComplete swallows what its callback throws; the task must still be settled
+                logger.warn("Failed to clean up player with ID: {}", task.playerId, e);
+                failures.put(task.playerId, e.toString());
+                finish(task.playerId);
+            }
+            drain();
+        });
+    }
+
+    private void handle(Task task, ResponseWrapper<Void> response, Throwable error) {
+        boolean timedOut = error == null && response.isTimedOut();
+        int status = error == null && !timedOut ? response.getStatusCode() : -1;
+        if (status >= 0 && (status < 300 || status == 404)) {
+            deleted.incrementAndGet();
+            logger.debug("Cleaned up player with ID: {}", task.playerId);
+            finish(task.playerId);
+            return;
+        }
+        String reason = error != null ? error.toString() : timedOut ? "timed out" : "HTTP " + status;
+        boolean retryable = status < 0 || status >= 500;
+        if (retryable && task.attempt < maxAttempts) {
+            long delayMs = retryBackoffMs << (task.attempt - 1);
+            logger.debug("Retrying cleanup of player {} in {} ms after {}", task.playerId, delayMs, reason);
+            CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS).execute(() -> {
+                queue.add(new Task(task.playerId, task.attempt + 1));
+                drain();
+            });
+            return;
+        }
+        logger.warn("Failed to clean up player with ID: {} after {} attempt(s): {}", task.playerId, task.attempt, reason);
+        failures.put(task.playerId, reason);
+        finish(task.playerId);
+    }
+
+    private void finish(Integer playerId) {
+        outstanding.remove(playerId);
+        if (outstanding.isEmpty()) {
+            lock.lock();
+            try {
+                drained.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static final class Task {
+        private final Integer playerId;
+        private final int attempt;
+
+        private Task(Integer playerId, int attempt) {
+            this.playerId = playerId;
+            this.attempt = attempt;
+        }
+    }
+
+    /**
+     * Outcome of the cleanup run as seen by the suite-end barrier.
+     */
+    public static final class CleanupReport {
+        private final int deleted;
+        private final Map<Integer, String> failures;
+        private final Set<Integer> pending;
+
+        CleanupReport(int deleted, Map<Integer, String> failures, Set<Integer> pending) {
+            this.deleted = deleted;
+            this.failures = Collections.unmodifiableMap(failures);
+            this.pending = Collections.unmodifiableSet(pending);
+        }
+
+        public int getDeleted() {
+            return deleted;
+        }
+
+        /**
+         * Players that could not be deleted, with the last error seen for each.
+         */
+        public Map<Integer, String> getFailures() {
+            return failures;
+        }
+
+        /**
+         * Players still queued or in flight when the barrier timed out.
+         */
+        public Set<Integer> getPending() {
+            return pending;
+        }
+
+        public boolean isClean() {
+            return failures.isEmpty() && pending.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return "CleanupReport{" +
+                    "deleted=" + deleted +
+                    ", failed=" + failures.size() +
+                    ", pending=" + pending.size() +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package api.data;
+
+import api.client.ResponseWrapper;
+import api.model.request.Player;
+import api.model.response.PlayerResponse;
+import api.requests.PlayerApiClient;
+import common.env.AppConfig;
+import common.env.ConfigFactoryProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import util.TestDataGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps {@code test.fixtures.pool.size} ready-made players per role so tests can lease one instead of creating it.
+ * <p>
+ * Players are created in the background through the async client with {@link TestDataGenerator#generateValidPlayer(String)}
+ * and topped up whenever a lease is taken. Returned leases go back to the pool unless marked as mutated, in which
+ * case the player is handed to {@link PlayerCleanupService} and replaced. {@link #close()} at suite end releases
+ * every idle player for deletion.
+ */
+public final class PlayerFixturePool {
+    private static final Logger logger = LoggerFactory.getLogger(PlayerFixturePool.class);
+    private static final long POLL_SLICE_MS = 1000;
+    private static final PlayerFixturePool instance = new PlayerFixturePool();
+
+    private final PlayerApiClient apiClient = new PlayerApiClient();
+    private final String editor = ConfigFactoryProvider.apiConfig().defaultSupervisorLogin();
+    private final Map<String, RolePool> pools = new ConcurrentHashMap<>();
+    private final int poolSize;
+    private final long leaseTimeoutMs;
+    private volatile boolean closed;
+
+    private PlayerFixturePool() {
+        apiClient.setHousekeeping(true);
+        AppConfig config = ConfigFactoryProvider.appConfig();
+        this.poolSize = config.fixturesPoolSize();
+        this.leaseTimeoutMs = TimeUnit.SECONDS.toMillis(config.fixturesLeaseTimeoutSeconds());
+    }
+
+    public static PlayerFixturePool getInstance() {
+        return instance;
+    }
+
+    /**
+     * Takes a player with the given role, waiting up to {@code test.fixtures.lease.timeout.seconds} for one to be
+     * provisioned. The first lease of a role starts filling its pool.
+     */
+    public PlayerLease lease(String role) {
+        if (closed) {
+            throw new IllegalStateException("Player fixture pool is closed");
+        }
+        PlayerLease lease = pools.computeIfAbsent(role, RolePool::new).take();
+        logger.debug("Leased {}", lease);
+        return lease;
+    }
+
+    /**
+     * Returns a lease. Untouched players are recycled; mutated ones are deleted and replaced. Null and leases that
+     * were already returned are ignored, so tear-down code works when set-up failed before leasing and a player is
+     * never recycled twice.
+     */
+    public void release(PlayerLease lease) {
+        if (lease == null || !lease.markReleased()) {
+            return;
+        }
+        RolePool pool = pools.get(lease.getRole());
+        if (lease.isMutated() || closed || pool == null) {
+            logger.debug("Discarding {}", lease);
+            PlayerCleanupService.getInstance().register(lease.getPlayerId());
+            if (pool != null) {
+                pool.refill();
+            }
+            return;
+        }
+        logger.debug("Recycling {}", lease);
+        // a fresh handle, so a late second release of the old one cannot return the next borrower's lease
+        pool.idle.offer(new PlayerLease(lease.getRole(), lease.getPlayer(), lease.getCreated()));
+    }
+
+    /**
+     * Stops provisioning and hands every idle player to the cleanup service. Players still being created are
+     * handed over as soon as they arrive.
+     */
+    public void close() {
+        closed = true;
+        List<PlayerLease> remaining = new ArrayList<>();
+        pools.values().forEach(pool -> pool.idle.drainTo(remaining));
+        remaining.forEach(lease -> PlayerCleanupService.getInstance().register(lease.getPlayerId()));
+        if (!remaining.isEmpty()) {
+            logger.info("Released {} pooled player fixtures for cleanup", remaining.size());
+        }
+    }
+
+    private final class RolePool {
+        private final String role;
+        private final BlockingQueue<PlayerLease> idle = new LinkedBlockingQueue<>();
+        private final AtomicInteger provisioning = new AtomicInteger();
+        private volatile String lastFailure;
+
+        private RolePool(String role) {
+            this.role = role;
+        }
+
+        private PlayerLease take() {
+            long deadline = System.currentTimeMillis() + leaseTimeoutMs;
+            try {
+                while (true) {
+                    // Topping up on every slice also retries provisioning that failed while we were waiting
+                    refill();
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    PlayerLease lease = idle.poll(Math.min(remaining, POLL_SLICE_MS), TimeUnit.MILLISECONDS);
+                    if (lease != null) {
+                        refill();
+                        return lease;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("No '" + role + "' player fixture available within " + leaseTimeoutMs
+                    + " ms" + (lastFailure == null ? "" : "; last provisioning failure: " + lastFailure));
+        }
+
+        private void refill() {
+            while (!closed) {
+                int inFlight = provisioning.get();
+                if (idle.size() + inFlight >= poolSize) {
+                    return;
+                }
+                if (provisioning.compareAndSet(inFlight, inFlight + 1) && !provision()) {
+                    return;
+                }
+            }
+        }
+
+        private boolean provision() {
+            Player player = TestDataGenerator.generateValidPlayer(role);
+            CompletableFuture<ResponseWrapper<PlayerResponse>> call;
+            try {
+                call = apiClient.createPlayerAsync(editor, player);
+            } catch (RuntimeException e) {
+                provisioning.decrementAndGet();
+                lastFailure = e.toString();
+                logger.warn("Failed to provision '{}' player fixture", role, e);
+                return false;
+            }
+            call.whenComplete((response, error) -> {
+                try {
+                    accept(player, response, error);
+                } catch (Throwable e) {
+                    // whenComplete swallows what its callback throws; record it so a failing lease can name it
+                    lastFailure = e.toString();
+                    logger.warn("Failed to provision '{}' player fixture", role, e);
+                } finally {
+                    provisioning.decrementAndGet();
+                }
+            });
+            return true;
+        }
+
+        private void accept(Player player, ResponseWrapper<PlayerResponse> response, Throwable error) {
+            if (error != null) {
+                failed(error.toString());
+                return;
+            }
+            if (response.isTimedOut()) {
+                // The server may still have created it; its id is unknown, but the run tag on its screenName lets
+                // the suite-end orphan sweep find it
+                failed("create timed out, " + player.getScreenName() + " is left to the orphan sweep");
+                return;
+            }
+            PlayerResponse created = created(response);
+            if (created == null) {
+                failed("HTTP " + response.getStatusCode());
+                return;
+            }
+            PlayerLease lease = new PlayerLease(role, player, created);
+            if (closed) {
+                PlayerCleanupService.getInstance().register(lease.getPlayerId());
+            } else {
+                idle.offer(lease);
+            }
+        }
+
+        private void failed(String reason) {
+            lastFailure = reason;
+            logger.warn("Failed to provision '{}' player fixture: {}", role, reason);
+        }
+
+        private PlayerResponse created(ResponseWrapper<PlayerResponse> response) {
+            if (response.getStatusCode() != 200) {
+                return null;
+            }
+            try {
+                PlayerResponse created = response.readEntity();
+                return created.getPlayerId() == null ? null : created;
+            } catch (AssertionError e) {
+                return null;
+            }
+        }
+    }
+}
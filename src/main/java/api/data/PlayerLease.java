@@ -0,0 +1,70 @@
+package api.data;
+
+import api.model.request.Player;
+import api.model.response.PlayerResponse;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A pre-created player borrowed from {@link PlayerFixturePool}. Call {@link #markMutated()} before returning it if
+ * the test updated or deleted the player, so the pool discards it instead of handing it to the next test.
+ */
+public final class PlayerLease {
+    private final String role;
+    private final Player player;
+    private final PlayerResponse created;
+    private final AtomicBoolean released = new AtomicBoolean();
+    private volatile boolean mutated;
+
+    PlayerLease(String role, Player player, PlayerResponse created) {
+        this.role = role;
+        this.player = player;
+        this.created = created;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    /**
+     * The payload the player was created with, including the password.
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * The create response returned by the API.
+     */
+    public PlayerResponse getCreated() {
+        return created;
+    }
+
+    public Integer getPlayerId() {
+        return created.getPlayerId();
+    }
+
+    public void markMutated() {
+        this.mutated = true;
+    }
+
+    public boolean isMutated() {
+        return mutated;
+    }
+
+    /**
+     * Claims the one return this lease gets; false if it was already returned.
+     */
+    boolean markReleased() {
+        return released.compareAndSet(false, true);
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerLease{" +
+                "role='" + role + '\'' +
+                ", playerId=" + getPlayerId() +
+                ", mutated=" + mutated +
+                '}';
+    }
+}
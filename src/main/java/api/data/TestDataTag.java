@@ -0,0 +1,68 @@
+package api.data;
+
+import api.model.request.Player;
+import common.env.ConfigFactoryProvider;
+
+import java.time.Instant;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Run-scoped marker put in front of the screenName of every player the suite creates or renames, e.g.
+ * {@code qa1x9k2f_ab12cd34}.
+ * <p>
+ * The marker is {@code test.sweeper.tag} followed by the run start time in base-36 epoch seconds, so
+ * {@link OrphanSweeper} can tell players of this run from those leaked by earlier runs. screenName is used because it
+ * is the only free-text field returned by {@code /player/get/all}.
+ */
+public final class TestDataTag {
+    private static final String TAG = ConfigFactoryProvider.appConfig().sweeperTag();
+    private static final Pattern TAGGED = Pattern.compile("^" + Pattern.quote(TAG) + "([0-9a-z]{6,})_");
+    private static final long RUN_STARTED = Instant.now().getEpochSecond();
+    private static final String RUN_PREFIX = TAG + Long.toString(RUN_STARTED, 36) + "_";
+
+    private TestDataTag() {}
+
+    public static String runPrefix() {
+        return RUN_PREFIX;
+    }
+
+    /**
+     * Prefixes the player's screenName with this run's tag. Null or empty names are left alone so negative tests
+     * keep sending what they meant to, and names that already carry a tag (e.g. copied from a created player) are
+     * not tagged twice. The player is changed in place so callers comparing against it see the sent value.
+     */
+    public static Player apply(Player player) {
+        String screenName = player.getScreenName();
+        if (screenName != null && !screenName.isEmpty() && !isTagged(screenName)) {
+            player.setScreenName(RUN_PREFIX + screenName);
+        }
+        return player;
+    }
+
+    public static boolean isTagged(String screenName) {
+        return screenName != null && TAGGED.matcher(screenName).find();
+    }
+
+    public static boolean isFromCurrentRun(String screenName) {
+        return screenName != null && screenName.startsWith(RUN_PREFIX);
+    }
+
+    /**
+     * Epoch second at which the run that tagged this screenName started, or -1 if it carries no tag.
+     */
+    public static long runStartedAt(String screenName) {
+        if (screenName == null) {
+            return -1;
+        }
+        Matcher matcher = TAGGED.matcher(screenName);
+        if (!matcher.find()) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(matcher.group(1), 36);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package api.load;
+
+import org.HdrHistogram.HistogramLogWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the latencies of a {@link LoadResult} to an HdrHistogram interval log while the run goes on, one set of
+ * tagged histograms per interval, with values in microseconds. The file can be plotted or compared with
+ * {@code HistogramLogProcessor} or HdrHistogram's log analysers, e.g. {@code -tag response.getPlayer}.
+ */
+final class HdrIntervalLog implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(HdrIntervalLog.class);
+
+    private final Path file;
+    private final LoadResult result;
+    private final PrintStream out;
+    private final HistogramLogWriter writer;
+    private final ScheduledExecutorService timer;
+
+    HdrIntervalLog(Path file, Duration interval, LoadResult result) throws IOException {
+        this.file = file;
+        this.result = result;
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        this.out = new PrintStream(Files.newOutputStream(file), false, "UTF-8");
+        this.writer = new HistogramLogWriter(out);
+        long startMillis = System.currentTimeMillis();
+        writer.outputComment("Load run '" + result.getName() + "', latencies in microseconds");
+        writer.outputLogFormatVersion();
+        writer.outputStartTime(startMillis);
+        writer.setBaseTime(startMillis);
+        writer.outputLegend();
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hdr-interval-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.scheduleAtFixedRate(this::writeInterval, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void writeInterval() {
+        try {
+            result.writeIntervals(writer);
+            out.flush();
+        } catch (RuntimeException e) {
+            logger.warn("Could not write interval histograms to {}", file, e);
+        }
+    }
+
+    /**
+     * Writes the last, partial interval and closes the file.
+     */
+    @Override
+    public void close() {
+        timer.shutdown();
+        try {
+            timer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeInterval();
+        out.close();
+        logger.info("Interval histograms written to {}", file.toAbsolutePath());
+    }
+}
@@ -0,0 +1,37 @@
+package api.load;
+
+import api.requests.PlayerApiClient;
+
+/**
+ * One request issued by a load run through the regular {@link PlayerApiClient}, so endpoints, payloads and encoding
+ * are exactly those of the functional suite.
+ */
+@FunctionalInterface
+public interface LoadOperation {
+
+    /**
+     * Issues the request and returns its HTTP status code. Exceptions count as errors.
+     */
+    int execute(PlayerApiClient client);
+
+    /**
+     * Label under which the operation's results are reported.
+     */
+    default String name() {
+        return "operation";
+    }
+
+    static LoadOperation named(String name, LoadOperation operation) {
+        return new LoadOperation() {
+            @Override
+            public int execute(PlayerApiClient client) {
+                return operation.execute(client);
+            }
+
+            @Override
+            public String name() {
+                return name;
+            }
+        };
+    }
+}
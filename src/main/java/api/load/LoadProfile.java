@@ -0,0 +1,174 @@
+package api.load;
+
+import common.env.LoadConfig;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Target arrival rate over the course of a run, as consecutive phases whose rate changes linearly from a start to an
+ * end value.
+ * <p>
+ * The profile fixes when every request is due, independent of how fast the server answers: request {@code i} is due
+ * when the integral of the rate reaches {@code i}. That is what makes a run open-loop.
+ */
+public final class LoadProfile {
+    private final List<Phase> phases;
+
+    private LoadProfile(List<Phase> phases) {
+        this.phases = Collections.unmodifiableList(phases);
+    }
+
+    /**
+     * Ramp from zero to {@code load.target.rps}, hold it, then ramp back to zero.
+     */
+    public static LoadProfile fromConfig(LoadConfig config) {
+        return builder()
+                .ramp("ramp-up", Duration.ofSeconds(config.rampUpSeconds()), 0, config.targetRps())
+                .constant("steady", Duration.ofSeconds(config.steadySeconds()), config.targetRps())
+                .ramp("ramp-down", Duration.ofSeconds(config.rampDownSeconds()), config.targetRps(), 0)
+                .build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public List<Phase> getPhases() {
+        return phases;
+    }
+
+    public Duration getDuration() {
+        long nanos = 0;
+        for (Phase phase : phases) {
+            nanos += phase.durationNanos;
+        }
+        return Duration.ofNanos(nanos);
+    }
+
+    /**
+     * Offset from the start of the run at which request {@code index} (0-based) is due, or -1 once the profile has
+     * no more requests.
+     */
+    public long intendedOffsetNanos(long index) {
+        double remaining = index;
+        long phaseStart = 0;
+        for (Phase phase : phases) {
+            double arrivals = phase.arrivals();
+            if (remaining < arrivals) {
+                return phaseStart + phase.offsetOfArrival(remaining);
+            }
+            remaining -= arrivals;
+            phaseStart += phase.durationNanos;
+        }
+        return -1;
+    }
+
+    /**
+     * Name of the phase running at {@code offsetNanos} into the run.
+     */
+    public String phaseAt(long offsetNanos) {
+        long phaseEnd = 0;
+        for (Phase phase : phases) {
+            phaseEnd += phase.durationNanos;
+            if (offsetNanos < phaseEnd) {
+                return phase.name;
+            }
+        }
+        return phases.isEmpty() ? "" : phases.get(phases.size() - 1).name;
+    }
+
+    @Override
+    public String toString() {
+        return "LoadProfile" + phases;
+    }
+
+    /**
+     * A stretch of the run whose rate moves linearly from {@code startRps} to {@code endRps}.
+     */
+    public static final class Phase {
+        private final String name;
+        private final long durationNanos;
+        private final double startRps;
+        private final double endRps;
+
+        private Phase(String name, long durationNanos, double startRps, double endRps) {
+            if (durationNanos < 0 || startRps < 0 || endRps < 0) {
+                throw new IllegalArgumentException("Phase '" + name + "' needs a non-negative duration and rates");
+            }
+            this.name = name;
+            this.durationNanos = durationNanos;
+            this.startRps = startRps;
+            this.endRps = endRps;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Duration getDuration() {
+            return Duration.ofNanos(durationNanos);
+        }
+
+        public double getStartRps() {
+            return startRps;
+        }
+
+        public double getEndRps() {
+            return endRps;
+        }
+
+        double arrivals() {
+            return (startRps + endRps) / 2 * seconds(durationNanos);
+        }
+
+        /**
+         * Solves {@code startRps * t + slope * t^2 / 2 = arrival} for t.
+         */
+        long offsetOfArrival(double arrival) {
+            double duration = seconds(durationNanos);
+            double slope = (endRps - startRps) / duration;
+            double t;
+            if (Math.abs(slope) < 1e-12) {
+                t = arrival / startRps;
+            } else {
+                double discriminant = Math.max(0, startRps * startRps + 2 * slope * arrival);
+                t = (Math.sqrt(discriminant) - startRps) / slope;
+            }
+            return Math.min(durationNanos, (long) (t * TimeUnit.SECONDS.toNanos(1)));
+        }
+
+        private static double seconds(long nanos) {
+            return nanos / (double) TimeUnit.SECONDS.toNanos(1);
+        }
+
+        @Override
+        public String toString() {
+            return name + "(" + getDuration().getSeconds() + "s, " + startRps + "->" + endRps + " rps)";
+        }
+    }
+
+    public static final class Builder {
+        private final List<Phase> phases = new ArrayList<>();
+
+        private Builder() {}
+
+        public Builder ramp(String name, Duration duration, double startRps, double endRps) {
+            if (!duration.isZero()) {
+                phases.add(new Phase(name, duration.toNanos(), startRps, endRps));
+            }
+            return this;
+        }
+
+        public Builder constant(String name, Duration duration, double rps) {
+            return ramp(name, duration, rps, rps);
+        }
+
+        public LoadProfile build() {
+            return new LoadProfile(new ArrayList<>(phases));
+        }
+    }
+}
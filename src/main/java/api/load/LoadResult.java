@@ -0,0 +1,207 @@
+package api.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcome of a load run. Two latencies are kept per request, in microseconds:
+ * <ul>
+ *     <li>response time, from when the request was <em>due</em> to when it completed. This is what a user arriving
+ *     on schedule experiences and is corrected for coordinated omission: when the server stalls, requests queued
+ *     behind the stall are charged the time they waited;</li>
+ *     <li>service time, from when the request was actually sent, which is what {@code RestClient} logs.</li>
+ * </ul>
+ * Outcomes and response times are also broken down by {@link LoadOperation#name() operation}, so the operations of a
+ * {@link WorkloadMix} can be told apart. How late the scheduler itself dispatched each request is kept as dispatch
+ * lag; it should stay near zero, otherwise the generator rather than the server is the bottleneck.
+ * <p>
+ * Besides the totals, every latency also goes to a {@link Recorder}, from which {@link #writeIntervals} takes the
+ * histogram of each interval for an HdrHistogram interval log.
+ */
+public final class LoadResult {
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String RESPONSE = "response";
+    private static final String SERVICE = "service";
+
+    private final String name;
+    private final Histogram responseTime = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final Histogram serviceTime = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, LongAdder>> outcomesByOperation = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> responseTimeByOperation = new ConcurrentHashMap<>();
+    private final Histogram dispatchLag = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    // interval recorders by log tag: response, service and response.<operation>
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> recycledIntervals = new HashMap<>();
+    private volatile long durationNanos;
+    private volatile long abandoned;
+
+    LoadResult(String name) {
+        this.name = name;
+    }
+
+    void onSent(long dispatchLagNanos) {
+        sent.increment();
+        dispatchLag.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(dispatchLagNanos)));
+    }
+
+    void onCompleted(String operation, int statusCode, long responseNanos, long serviceNanos) {
+        record(operation, statusCode / 100 + "xx", responseNanos, serviceNanos);
+    }
+
+    void onFailed(String operation, Throwable error, long responseNanos, long serviceNanos) {
+        record(operation, error.getClass().getSimpleName(), responseNanos, serviceNanos);
+    }
+
+    void onFinished(long durationNanos, long abandoned) {
+        this.durationNanos = durationNanos;
+        this.abandoned = abandoned;
+    }
+
+    private void record(String operation, String outcome, long responseNanos, long serviceNanos) {
+        long responseMicros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(responseNanos));
+        long serviceMicros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(serviceNanos));
+        responseTime.recordValue(responseMicros);
+        serviceTime.recordValue(serviceMicros);
+        responseTimeByOperation.computeIfAbsent(operation, key -> new ConcurrentHistogram(SIGNIFICANT_DIGITS))
+                .recordValue(responseMicros);
+        recorder(RESPONSE).recordValue(responseMicros);
+        recorder(SERVICE).recordValue(serviceMicros);
+        recorder(RESPONSE + "." + operation).recordValue(responseMicros);
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        outcomesByOperation.computeIfAbsent(operation, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        completed.increment();
+    }
+
+    private Recorder recorder(String tag) {
+        return recorders.computeIfAbsent(tag, key -> new Recorder(SIGNIFICANT_DIGITS));
+    }
+
+    /**
+     * Writes what was recorded since the previous call as one tagged interval histogram per recorder: {@code response},
+     * {@code service} and {@code response.<operation>}. Only one thread may write intervals.
+     */
+    void writeIntervals(HistogramLogWriter writer) {
+        new TreeMap<>(recorders).forEach((tag, recorder) -> {
+            Histogram interval = recorder.getIntervalHistogram(recycledIntervals.get(tag));
+            interval.setTag(tag);
+            writer.outputIntervalHistogram(interval);
+            recycledIntervals.put(tag, interval);
+        });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getSent() {
+        return sent.sum();
+    }
+
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    /**
+     * Requests still in flight when the drain timeout ran out.
+     */
+    public long getAbandoned() {
+        return abandoned;
+    }
+
+    /**
+     * Completed requests by status class ({@code 2xx} ...) or, for requests that threw, exception type.
+     */
+    public Map<String, Long> getOutcomes() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> snapshot.put(outcome, count.sum()));
+        return snapshot;
+    }
+
+    /**
+     * Completed requests of one operation, by outcome as in {@link #getOutcomes()}; empty if it never ran.
+     */
+    public Map<String, Long> getOutcomes(String operation) {
+        Map<String, Long> snapshot = new TreeMap<>();
+        outcomesByOperation.getOrDefault(operation, Map.of()).forEach((outcome, count) -> snapshot.put(outcome, count.sum()));
+        return snapshot;
+    }
+
+    /**
+     * Response time of one operation, or null if it never ran.
+     */
+    public Histogram getResponseTime(String operation) {
+        Histogram histogram = responseTimeByOperation.get(operation);
+        return histogram == null ? null : histogram.copy();
+    }
+
+    public Histogram getResponseTime() {
+        return responseTime.copy();
+    }
+
+    public Histogram getServiceTime() {
+        return serviceTime.copy();
+    }
+
+    /**
+     * How late requests were handed to a worker compared to when they were due.
+     */
+    public Histogram getDispatchLag() {
+        return dispatchLag.copy();
+    }
+
+    public double getAchievedRps() {
+        return durationNanos == 0 ? 0 : getCompleted() / (durationNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    public String format() {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format(Locale.ROOT, "Load run '%s': %d sent, %d completed, %d abandoned in %.1f s (%.1f rps)%n",
+                name, getSent(), getCompleted(), getAbandoned(), durationNanos / 1e9, getAchievedRps()));
+        summary.append("Outcomes: ").append(getOutcomes()).append(System.lineSeparator());
+        summary.append(String.format(Locale.ROOT, "%-14s %10s %10s %10s %10s %10s%n",
+                "latency", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        appendRow(summary, "response time", responseTime);
+        appendRow(summary, "service time", serviceTime);
+        appendRow(summary, "dispatch lag", dispatchLag);
+        if (responseTimeByOperation.size() > 1) {
+            int width = responseTimeByOperation.keySet().stream().mapToInt(String::length).max().orElse(0);
+            String label = "%-" + Math.max(14, width) + "s";
+            summary.append(String.format(Locale.ROOT, "%nResponse time by operation:%n" + label + " %8s %10s %10s %10s %10s %10s  %s%n",
+                    "operation", "count", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "outcomes"));
+            new TreeMap<>(responseTimeByOperation).forEach((operation, histogram) -> {
+                summary.append(String.format(Locale.ROOT, label + " %8d", operation, histogram.getTotalCount()));
+                appendPercentiles(summary, histogram);
+                summary.setLength(summary.length() - System.lineSeparator().length());
+                summary.append("  ").append(getOutcomes(operation)).append(System.lineSeparator());
+            });
+        }
+        return summary.toString();
+    }
+
+    private static void appendRow(StringBuilder summary, String label, Histogram histogram) {
+        summary.append(String.format(Locale.ROOT, "%-14s", label));
+        appendPercentiles(summary, histogram);
+    }
+
+    private static void appendPercentiles(StringBuilder summary, Histogram histogram) {
+        for (double percentile : PERCENTILES) {
+            summary.append(String.format(Locale.ROOT, " %10.3f", histogram.getValueAtPercentile(percentile) / 1000.0));
+        }
+        summary.append(String.format(Locale.ROOT, " %10.3f%n", histogram.getMaxValue() / 1000.0));
+    }
+}
@@ -0,0 +1,224 @@
+package api.load;
+
+import api.client.LatencyHistograms;
+import api.data.PlayerCleanupService;
+import api.requests.PlayerApiClient;
+import api.scenario.PlayerScenarios;
+import api.scenario.ScenarioStats;
+import common.VirtualThreads;
+import common.env.ConfigFactoryProvider;
+import common.env.Environment;
+import common.env.LoadConfig;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Open-loop load generator driving {@link PlayerApiClient} at the arrival rate of a {@link LoadProfile}, with the
+ * operations drawn from a {@link Workload}.
+ * <p>
+ * The dispatching thread only waits for the moment each request is due and hands it to a worker; it never waits for
+ * responses, so a slow server gets more concurrent requests rather than fewer, as it would from real users. Workers
+ * run on virtual threads where available. Latency is measured from the due time, see {@link OpenLoopScheduler} and
+ * {@link LoadResult}, and written as it goes to an HdrHistogram interval log next to the summary.
+ * <p>
+ * Run with {@code mvn -Pload compile exec:exec -Dload.args="-Denv=prod -Dload.target.rps=50"}; every key of
+ * {@code load.properties}, {@code config.properties} and the {@code http.*} client settings can be overridden the same
+ * way.
+ */
+public final class LoadRunner {
+    private static final Logger logger = LoggerFactory.getLogger(LoadRunner.class);
+    private static final Path REPORT_DIR = Paths.get("target", "perf");
+    private static final String MIX = "mix";
+    private static final String SCENARIO = "scenario";
+
+    private final String name;
+    private final LoadProfile profile;
+    private final Workload workload;
+    private final PlayerApiClient client;
+    private final Duration drainTimeout;
+    private final Duration logInterval;
+
+    /**
+     * @param logInterval interval of the HdrHistogram log written to {@code target/perf/<name>.hlog}; zero for none
+     */
+    public LoadRunner(String name, LoadProfile profile, Workload workload, PlayerApiClient client, Duration drainTimeout,
+                      Duration logInterval) {
+        this.name = name;
+        this.profile = profile;
+        this.workload = workload;
+        this.client = client;
+        this.drainTimeout = drainTimeout;
+        this.logInterval = logInterval;
+    }
+
+    public LoadResult run() {
+        LoadResult result = new LoadResult(name);
+        ExecutorService workers = VirtualThreads.newThreadPerTaskExecutor("load-");
+        logger.info("Load run '{}' started: {}", name, profile);
+        long start = System.nanoTime();
+        HdrIntervalLog intervalLog = openIntervalLog(result, logInterval);
+        try {
+            new OpenLoopScheduler(profile).run(start, (intendedStart, lag) -> {
+                LoadOperation operation = workload.next();
+                result.onSent(lag);
+                workers.execute(() -> issue(operation, intendedStart, result));
+            });
+            long abandoned = drain(workers, drainTimeout, result);
+            result.onFinished(System.nanoTime() - start, abandoned);
+        } finally {
+            closeIntervalLog(intervalLog);
+        }
+        return result;
+    }
+
+    /**
+     * Opens {@code target/perf/<run name>.hlog}, or returns null if {@code interval} is zero or the file cannot be
+     * created.
+     */
+    static HdrIntervalLog openIntervalLog(LoadResult result, Duration interval) {
+        if (interval.isZero() || interval.isNegative()) {
+            return null;
+        }
+        Path file = REPORT_DIR.resolve(result.getName() + ".hlog");
+        try {
+            return new HdrIntervalLog(file, interval, result);
+        } catch (IOException e) {
+            logger.warn("Could not open interval log {}, running without it", file, e);
+            return null;
+        }
+    }
+
+    static void closeIntervalLog(HdrIntervalLog intervalLog) {
+        if (intervalLog != null) {
+            intervalLog.close();
+        }
+    }
+
+    /**
+     * Lets the requests in flight finish within {@code drainTimeout} and abandons the rest.
+     *
+     * @return the number of requests abandoned
+     */
+    static long drain(ExecutorService workers, Duration drainTimeout, LoadResult result) {
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                workers.shutdownNow();
+                long abandoned = result.getSent() - result.getCompleted();
+                logger.warn("Load run '{}': {} requests still in flight after {} s, abandoned", result.getName(), abandoned,
+                        drainTimeout.getSeconds());
+                return abandoned;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+        }
+        return 0;
+    }
+
+    /**
+     * Latency is taken from the intended start, so time spent waiting for a worker or a client permit is charged to
+     * the request; service time starts when the operation actually runs.
+     */
+    private void issue(LoadOperation operation, long intendedStart, LoadResult result) {
+        long sendStart = System.nanoTime();
+        try {
+            int statusCode = operation.execute(client);
+            long end = System.nanoTime();
+            result.onCompleted(operation.name(), statusCode, end - intendedStart, end - sendStart);
+        } catch (RuntimeException | AssertionError e) {
+            long end = System.nanoTime();
+            result.onFailed(operation.name(), e, end - intendedStart, end - sendStart);
+            logger.debug("Load request failed", e);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadConfig config = configure();
+        logger.info("Load run against {} ({} environment)", ConfigFactoryProvider.apiConfig().baseUrl(),
+                System.getProperty("env"));
+
+        PlayerApiClient client = new PlayerApiClient();
+        List<Integer> fixtures = new ArrayList<>();
+        LoadResult result;
+        PlayerWorkingSet workingSet = new PlayerWorkingSet();
+        ScenarioStats scenarioStats = new ScenarioStats();
+        try {
+            Workload workload;
+            if (MIX.equals(config.operation())) {
+                workload = mix(config, client, workingSet);
+            } else if (SCENARIO.equals(config.operation())) {
+                workload = Workload.of(PlayerScenarios.named(config.scenario()).asLoadOperation(scenarioStats));
+            } else {
+                workload = Workload.of(PlayerOperations.named(config.operation(), client, fixtures));
+            }
+            result = new LoadRunner(config.name(), LoadProfile.fromConfig(config), workload, client,
+                    Duration.ofSeconds(config.drainTimeoutSeconds()), Duration.ofMillis(config.hdrLogIntervalMillis())).run();
+        } finally {
+            fixtures.addAll(workingSet.ids());
+            PlayerCleanupService.getInstance().registerAll(fixtures);
+            logger.info("Player cleanup after load run: {}", PlayerCleanupService.getInstance()
+                    .awaitCompletion(Duration.ofSeconds(ConfigFactoryProvider.appConfig().cleanupAwaitTimeoutSeconds())));
+        }
+        String summary = result.format();
+        if (!scenarioStats.isEmpty()) {
+            summary += System.lineSeparator() + "Scenario '" + config.scenario() + "' by step:" + System.lineSeparator()
+                    + scenarioStats.format();
+        }
+        writeSummary(config.name(), summary);
+    }
+
+    /**
+     * Selects the environment from {@code env} and prepares the client for measuring rather than testing.
+     */
+    static LoadConfig configure() {
+        Environment environment = Environment.valueOf(System.getProperty("env", Environment.prod.name()));
+        System.setProperty("env", environment.name());
+        // REST Assured logs every exchange in full and attaches it to Allure; the JDK transport keeps that out of the
+        // measurement unless a transport is chosen explicitly
+        if (System.getProperty("http.transport") == null) {
+            System.setProperty("http.transport", "jdk");
+        }
+        LoadConfig config = ConfigFactoryProvider.loadConfig();
+        Configurator.setLevel("api", Level.toLevel(config.clientLogLevel(), Level.WARN));
+        return config;
+    }
+
+    /**
+     * Logs {@code summary} with the per-endpoint service times and writes it to {@code target/perf/<name>-summary.txt}.
+     */
+    static void writeSummary(String name, String summary) throws IOException {
+        logger.info("\n{}\nPer-endpoint service time:\n{}", summary, LatencyHistograms.getInstance().formatTable());
+        Files.createDirectories(REPORT_DIR);
+        Path report = REPORT_DIR.resolve(name + "-summary.txt");
+        Files.writeString(report, summary);
+        logger.info("Load run summary written to {}", report.toAbsolutePath());
+    }
+
+    /**
+     * The {@code load.mix} workload over a working set seeded with {@code load.working.set.initial} players.
+     */
+    private static Workload mix(LoadConfig config, PlayerApiClient client, PlayerWorkingSet workingSet) {
+        Map<String, LoadOperation> operations = PlayerOperations.forWorkingSet(workingSet,
+                WorkloadMix.parseWeights(config.mixEditors()), config.workingSetMin());
+        LoadOperation create = operations.get("createPlayer");
+        for (int i = 0; i < config.workingSetInitial(); i++) {
+            create.execute(client);
+        }
+        logger.info("Working set seeded with {} players, mix {}", workingSet.size(), config.mix());
+        return WorkloadMix.fromConfig(config, operations);
+    }
+}
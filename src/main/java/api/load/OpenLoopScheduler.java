@@ -0,0 +1,60 @@
+package api.load;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Computes when each request of a {@link LoadProfile} is due and hands it over at that moment, whatever happened to
+ * the requests before it.
+ * <p>
+ * Every request carries its intended start time, fixed by the profile before the run begins. Latency measured from it
+ * includes any time the request spent waiting for a worker, a permit or the scheduler itself, which is exactly the
+ * queueing delay a server stall causes and a measurement from the moment of sending leaves out.
+ */
+final class OpenLoopScheduler {
+
+    /**
+     * Receives each request when it is due.
+     */
+    @FunctionalInterface
+    interface Dispatcher {
+        /**
+         * @param intendedStartNanos {@link System#nanoTime()} at which the request was due
+         * @param lagNanos           how much later than that it is being dispatched
+         */
+        void dispatch(long intendedStartNanos, long lagNanos);
+    }
+
+    private final LoadProfile profile;
+
+    OpenLoopScheduler(LoadProfile profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * Dispatches every request of the profile, counting from {@code startNanos}, and returns once the last one has
+     * been handed over.
+     */
+    void run(long startNanos, Dispatcher dispatcher) {
+        for (long index = 0; ; index++) {
+            long offset = profile.intendedOffsetNanos(index);
+            if (offset < 0) {
+                return;
+            }
+            long intendedStart = startNanos + offset;
+            long now = parkUntil(intendedStart);
+            dispatcher.dispatch(intendedStart, now - intendedStart);
+        }
+    }
+
+    /**
+     * Parks until {@code deadlineNanos} and returns the {@link System#nanoTime()} at which it woke up.
+     */
+    static long parkUntil(long deadlineNanos) {
+        long now = System.nanoTime();
+        while (now < deadlineNanos) {
+            LockSupport.parkNanos(deadlineNanos - now);
+            now = System.nanoTime();
+        }
+        return now;
+    }
+}
@@ -0,0 +1,178 @@
+package api.load;
+
+import api.client.ResponseWrapper;
+import api.data.PlayerCleanupService;
+import api.model.request.Player;
+import api.model.response.PlayerResponse;
+import api.requests.PlayerApiClient;
+import common.env.APIConfig;
+import common.env.ConfigFactoryProvider;
+import util.TestDataGenerator;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link LoadOperation}s built on {@link PlayerApiClient}. Players created by a run are tagged like those of the
+ * functional suite and handed to {@link PlayerCleanupService}, so a run leaves no data behind.
+ */
+public final class PlayerOperations {
+    private static final String SUPERVISOR = "supervisor";
+    private static final String ADMIN = "admin";
+    private static final String USER = "user";
+    private static final List<String> CREATE_AND_DELETE_EDITORS = List.of(SUPERVISOR, ADMIN);
+    private static final List<String> UPDATE_EDITORS = List.of(SUPERVISOR, ADMIN, USER);
+
+    private PlayerOperations() {}
+
+    /**
+     * Resolves {@code load.operation}. {@code getPlayer} reads a player created up front for the purpose; its ID is
+     * added to {@code fixtures} for the caller to clean up once the run is over.
+     */
+    public static LoadOperation named(String name, PlayerApiClient client, Collection<Integer> fixtures) {
+        switch (name) {
+            case "getPlayer":
+                return LoadOperation.named(name, getPlayer(createFixture(client, fixtures)));
+            case "getAllPlayers":
+                return LoadOperation.named(name, getAllPlayers());
+            case "createPlayer":
+                return LoadOperation.named(name, createPlayer(ConfigFactoryProvider.apiConfig().defaultSupervisorLogin()));
+            default:
+                throw new IllegalArgumentException("Unknown load operation '" + name
+                        + "'; expected getPlayer, getAllPlayers or createPlayer");
+        }
+    }
+
+    public static LoadOperation getPlayer(int playerId) {
+        return client -> client.getPlayer(playerId).getStatusCode();
+    }
+
+    public static LoadOperation getAllPlayers() {
+        return client -> client.getAllPlayers().getStatusCode();
+    }
+
+    public static LoadOperation createPlayer(String editor) {
+        return client -> {
+            ResponseWrapper<PlayerResponse> response = client.createPlayer(editor, TestDataGenerator.generateValidPlayer());
+            if (response.getStatusCode() == 200) {
+                PlayerCleanupService.getInstance().register(response.readEntity().getPlayerId());
+            }
+            return response.getStatusCode();
+        };
+    }
+
+    private static int createFixture(PlayerApiClient client, Collection<Integer> fixtures) {
+        String editor = ConfigFactoryProvider.apiConfig().defaultSupervisorLogin();
+        ResponseWrapper<PlayerResponse> response = client.createPlayer(editor, TestDataGenerator.generateValidPlayer());
+        response.expectingStatusCode(200);
+        int playerId = response.readEntity().getPlayerId();
+        fixtures.add(playerId);
+        return playerId;
+    }
+
+    /**
+     * The operations of a {@link WorkloadMix}, all working on {@code workingSet}: reads, updates and deletes target
+     * players it holds, creates add to it and deletes remove from it. Editors are drawn by {@code editorWeights} among
+     * the roles allowed to perform each operation; a {@code user} editor updates its own account. When the set is
+     * empty, or a delete would shrink it below {@code minSize}, the operation creates a player instead.
+     * <p>
+     * Created players are not cleaned up as they go; the caller registers what is left in the set after the run.
+     */
+    public static Map<String, LoadOperation> forWorkingSet(PlayerWorkingSet workingSet, Map<String, Integer> editorWeights,
+                                                           int minSize) {
+        Editors editors = new Editors(editorWeights, ConfigFactoryProvider.apiConfig());
+        LoadOperation create = client -> create(client, workingSet, editors);
+        Map<String, LoadOperation> operations = new LinkedHashMap<>();
+        operations.put("getPlayer", LoadOperation.named("getPlayer", client -> {
+            PlayerWorkingSet.Member member = workingSet.pick();
+            return member == null ? create.execute(client) : client.getPlayer(member.getId()).getStatusCode();
+        }));
+        operations.put("getAllPlayers", LoadOperation.named("getAllPlayers", getAllPlayers()));
+        operations.put("createPlayer", LoadOperation.named("createPlayer", create));
+        operations.put("updatePlayer", LoadOperation.named("updatePlayer", client -> {
+            String role = editors.pick(UPDATE_EDITORS);
+            PlayerWorkingSet.Member member = USER.equals(role) ? workingSet.pick(USER) : workingSet.pick();
+            if (member == null) {
+                return create.execute(client);
+            }
+            String editor = USER.equals(role) ? member.getLogin() : editors.login(role);
+            return client.updatePlayer(editor, member.getId(), TestDataGenerator.generatePartialUpdatePlayer())
+                    .getStatusCode();
+        }));
+        operations.put("deletePlayer", LoadOperation.named("deletePlayer", client -> {
+            PlayerWorkingSet.Member member = workingSet.take(minSize);
+            if (member == null) {
+                return create.execute(client);
+            }
+            int statusCode = 0;
+            try {
+                statusCode = client.deletePlayer(editors.login(editors.pick(CREATE_AND_DELETE_EDITORS)), member.getId())
+                        .getStatusCode();
+                return statusCode;
+            } finally {
+                // keep it for later operations and for cleanup unless the delete went through
+                if (statusCode / 100 != 2) {
+                    workingSet.add(member);
+                }
+            }
+        }));
+        return operations;
+    }
+
+    /**
+     * Creates a player for the working set. Mostly users, so user editors have accounts to update; a fifth are admins
+     * so admin-on-admin paths are exercised too.
+     */
+    static int create(PlayerApiClient client, PlayerWorkingSet workingSet, Editors editors) {
+        String role = ThreadLocalRandom.current().nextInt(5) == 0 ? ADMIN : USER;
+        Player player = TestDataGenerator.generateValidPlayer(role);
+        ResponseWrapper<PlayerResponse> response = client.createPlayer(editors.login(editors.pick(CREATE_AND_DELETE_EDITORS)), player);
+        if (response.getStatusCode() == 200) {
+            workingSet.add(new PlayerWorkingSet.Member(response.readEntity().getPlayerId(), player.getLogin(), role));
+        }
+        return response.getStatusCode();
+    }
+
+    /**
+     * Draws editor roles by weight and maps the fixed roles to their configured logins.
+     */
+    static final class Editors {
+        private final Map<String, Integer> weights;
+        private final String supervisorLogin;
+        private final String adminLogin;
+
+        Editors(Map<String, Integer> weights, APIConfig config) {
+            this.weights = weights;
+            this.supervisorLogin = config.defaultSupervisorLogin();
+            this.adminLogin = config.defaultAdminLogin();
+        }
+
+        /**
+         * A role among {@code allowed}, drawn by weight; supervisor if none of them has a weight.
+         */
+        String pick(List<String> allowed) {
+            int total = 0;
+            for (String role : allowed) {
+                total += weights.getOrDefault(role, 0);
+            }
+            if (total <= 0) {
+                return SUPERVISOR;
+            }
+            int draw = ThreadLocalRandom.current().nextInt(total);
+            for (String role : allowed) {
+                draw -= weights.getOrDefault(role, 0);
+                if (draw < 0) {
+                    return role;
+                }
+            }
+            return SUPERVISOR;
+        }
+
+        String login(String role) {
+            return ADMIN.equals(role) ? adminLogin : supervisorLogin;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package api.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Players created during a load run that still exist, so that reads, updates and deletes hit real records.
+ * <p>
+ * Members are kept in a list with swap-removal, giving constant-time random picks and removals under one lock; the
+ * work done while holding it is a few array accesses, far below the cost of the request that follows.
+ */
+public final class PlayerWorkingSet {
+    private final List<Member> members = new ArrayList<>();
+
+    public synchronized void add(Member member) {
+        members.add(member);
+    }
+
+    public synchronized int size() {
+        return members.size();
+    }
+
+    /**
+     * A random member, or null when the set is empty.
+     */
+    public synchronized Member pick() {
+        return members.isEmpty() ? null : members.get(ThreadLocalRandom.current().nextInt(members.size()));
+    }
+
+    /**
+     * A random member with {@code role}, or null if none is found among a few random probes.
+     */
+    public synchronized Member pick(String role) {
+        for (int probe = 0; probe < 8 && !members.isEmpty(); probe++) {
+            Member member = members.get(ThreadLocalRandom.current().nextInt(members.size()));
+            if (member.getRole().equals(role)) {
+                return member;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes and returns a random member, unless that would leave fewer than {@code minSize}; null then.
+     */
+    public synchronized Member take(int minSize) {
+        if (members.size() <= minSize) {
+            return null;
+        }
+        int index = ThreadLocalRandom.current().nextInt(members.size());
+        Member taken = members.get(index);
+        Member last = members.remove(members.size() - 1);
+        if (index < members.size()) {
+            members.set(index, last);
+        }
+        return taken;
+    }
+
+    public synchronized List<Integer> ids() {
+        List<Integer> ids = new ArrayList<>(members.size());
+        members.forEach(member -> ids.add(member.getId()));
+        return ids;
+    }
+
+    public static final class Member {
+        private final int id;
+        private final String login;
+        private final String role;
+
+        public Member(int id, String login, String role) {
+            this.id = id;
+            this.login = login;
+            this.role = role;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getLogin() {
+            return login;
+        }
+
+        public String getRole() {
+            return role;
+        }
+
+        @Override
+        public String toString() {
+            return "Member{" +
+                    "id=" + id +
+                    ", login='" + login + '\'' +
+                    ", role='" + role + '\'' +
+                    '}';
+        }
+    }
+}
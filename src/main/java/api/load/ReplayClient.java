@@ -0,0 +1,23 @@
+package api.load;
+
+import api.client.ApiRequest;
+import api.client.Configuration;
+import api.client.ResponseWrapper;
+import api.client.RestClient;
+import common.env.ConfigFactoryProvider;
+
+/**
+ * Sends recorded requests as they are, through the same client stack as {@code PlayerApiClient}, to
+ * {@code base.url}.
+ */
+final class ReplayClient extends RestClient {
+
+    @Override
+    protected Configuration defaultConfiguration() {
+        return new Configuration(ConfigFactoryProvider.apiConfig().baseUrl(), "application/json");
+    }
+
+    ResponseWrapper<Void> replay(ApiRequest request) {
+        return sendQuietly(request, Void.class);
+    }
+}
@@ -0,0 +1,364 @@
+package api.load;
+
+import api.client.ApiRequest;
+import api.client.JsonCodecs;
+import api.client.RequestTimeoutException;
+import api.client.ResponseWrapper;
+import api.client.TrafficJournal;
+import api.client.UriTemplate;
+import api.data.PlayerCleanupService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import common.VirtualThreads;
+import common.env.ConfigFactoryProvider;
+import common.env.LoadConfig;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Re-issues the calls of a {@link TrafficJournal} against {@code base.url} and compares the latencies and statuses
+ * with the recorded ones, e.g. to run a nightly suite's exact traffic against a new server build.
+ * <p>
+ * At speed {@code N} every call is due at its recorded offset divided by N and, as in {@link LoadRunner}, its response
+ * time is measured from then; at speed {@code max} calls go out as fast as {@code load.replay.concurrency} permits
+ * and are measured from when they were sent. Concurrency also caps the calls in flight at a fixed speed, so a slow
+ * server shows up as growing response times rather than a slower replay. Results are reported per endpoint
+ * ({@code METHOD template}) and written to an HdrHistogram interval log.
+ * <p>
+ * Player ids differ between the recorded and the replayed server, so a call on a player, through the
+ * {@code playerId} of its body or the {@code {id}} of its template, is sent with the id that the replay of the
+ * player's create returned; it waits for that create if needed. A call on a player whose recorded create failed in
+ * the replay is not sent, and one on a player the journal never created is sent with its recorded id; both are
+ * counted as unmapped per endpoint.
+ * <p>
+ * Run with {@code mvn -Pload compile exec:exec -Dload.main=api.load.Replayer
+ * -Dload.args="-Dload.replay.journal=nightly.journal -Dload.replay.speed=2 -Dbase.url=http://candidate:8080"}.
+ */
+public final class Replayer {
+    private static final Logger logger = LoggerFactory.getLogger(Replayer.class);
+
+    private final String name;
+    private final List<Call> calls;
+    private final double speed;
+    private final int concurrency;
+    private final ReplayClient client = new ReplayClient();
+    private final Duration drainTimeout;
+    private final Duration logInterval;
+    private final String createTemplate = ConfigFactoryProvider.apiConfig().endpointPlayerCreate();
+    private final Collection<Integer> createdPlayers = new ConcurrentLinkedQueue<>();
+    private final Map<String, LongAdder> statusMismatches = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> unmapped = new ConcurrentHashMap<>();
+    // recorded id of every player a journal create made -> the id its replay returned, null if it failed
+    private final Map<Long, CompletableFuture<Long>> replayedIds = new HashMap<>();
+
+    /**
+     * @param speed replay speed relative to the recording; 0 or less for as fast as possible
+     */
+    public Replayer(String name, List<TrafficJournal.Entry> entries, double speed, int concurrency, Duration drainTimeout,
+                    Duration logInterval) {
+        this.name = name;
+        this.calls = new ArrayList<>(entries.size());
+        // parse bodies up front so that preparing a call costs nothing during the replay
+        for (TrafficJournal.Entry entry : entries) {
+            calls.add(new Call(entry));
+            if (entry.getCreatedId() >= 0) {
+                replayedIds.put(entry.getCreatedId(), new CompletableFuture<>());
+            }
+        }
+        this.speed = speed;
+        this.concurrency = Math.max(1, concurrency);
+        this.drainTimeout = drainTimeout;
+        this.logInterval = logInterval;
+    }
+
+    public LoadResult run() {
+        LoadResult result = new LoadResult(name);
+        Semaphore permits = new Semaphore(concurrency);
+        ExecutorService workers = VirtualThreads.newThreadPerTaskExecutor("replay-");
+        logger.info("Replaying {} calls at {} with up to {} in flight", calls.size(), speed > 0 ? speed + "x" : "max speed",
+                concurrency);
+        long start = System.nanoTime();
+        HdrIntervalLog intervalLog = LoadRunner.openIntervalLog(result, logInterval);
+        try {
+            for (Call call : calls) {
+                long due = speed > 0 ? start + (long) (call.entry.getOffsetNanos() / speed) : 0;
+                if (speed > 0) {
+                    OpenLoopScheduler.parkUntil(due);
+                }
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                long now = System.nanoTime();
+                long intendedStart = speed > 0 ? due : now;
+                result.onSent(now - intendedStart);
+                workers.execute(() -> {
+                    try {
+                        issue(call, intendedStart, result);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+            long abandoned = LoadRunner.drain(workers, drainTimeout, result);
+            result.onFinished(System.nanoTime() - start, abandoned);
+        } finally {
+            LoadRunner.closeIntervalLog(intervalLog);
+        }
+        return result;
+    }
+
+    private void issue(Call call, long intendedStart, LoadResult result) {
+        String endpoint = call.entry.getMethod() + " " + call.entry.getTemplate();
+        Long createdId = null;
+        try {
+            ApiRequest request = call.request;
+            if (call.playerId != null) {
+                boolean createdByJournal = replayedIds.containsKey(call.playerId);
+                Long replayedId = createdByJournal ? replayedId(call.playerId) : null;
+                if (replayedId == null) {
+                    unmapped.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+                    if (createdByJournal) {
+                        // the player's create failed in the replay, there is no player to send this call to
+                        return;
+                    }
+                } else {
+                    request = call.forPlayer(replayedId);
+                }
+            }
+            long sendStart = System.nanoTime();
+            try {
+                ResponseWrapper<Void> response = client.replay(request);
+                long end = System.nanoTime();
+                if (response.isTimedOut()) {
+                    result.onFailed(endpoint, new RequestTimeoutException(request, null), end - intendedStart, end - sendStart);
+                    compareStatus(endpoint, call.entry, TrafficJournal.TIMEOUT);
+                    return;
+                }
+                int statusCode = response.getStatusCode();
+                result.onCompleted(endpoint, statusCode, end - intendedStart, end - sendStart);
+                compareStatus(endpoint, call.entry, statusCode);
+                if (statusCode == 200 && call.entry.getTemplate().equals(createTemplate)) {
+                    JsonNode id = JsonCodecs.mapper().readTree(response.body()).get("id");
+                    if (id != null && id.canConvertToInt()) {
+                        createdPlayers.add(id.asInt());
+                        createdId = id.asLong();
+                    }
+                }
+            } catch (IOException | RuntimeException | AssertionError e) {
+                long end = System.nanoTime();
+                result.onFailed(endpoint, e, end - intendedStart, end - sendStart);
+                compareStatus(endpoint, call.entry, TrafficJournal.ERROR);
+                logger.debug("Replayed call failed", e);
+            }
+        } finally {
+            CompletableFuture<Long> replayed = replayedIds.get(call.entry.getCreatedId());
+            if (replayed != null) {
+                replayed.complete(createdId);
+            }
+        }
+    }
+
+    /**
+     * The id the replay gave the player the journal created as {@code recordedId}, waiting for its create if it is
+     * still running; null if that create failed.
+     */
+    private Long replayedId(long recordedId) {
+        try {
+            return replayedIds.get(recordedId).get(drainTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    private void compareStatus(String endpoint, TrafficJournal.Entry entry, int statusCode) {
+        if (entry.getStatusCode() != statusCode) {
+            statusMismatches.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Players created by replayed creates, to be cleaned up.
+     */
+    public Collection<Integer> getCreatedPlayers() {
+        return List.copyOf(createdPlayers);
+    }
+
+    /**
+     * Calls whose player id could not be mapped to a replayed player, by endpoint.
+     */
+    public Map<String, Long> getUnmapped() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        unmapped.forEach((endpoint, count) -> snapshot.put(endpoint, count.sum()));
+        return snapshot;
+    }
+
+    /**
+     * Recorded against replayed response time per endpoint, with the number of calls whose status differed and of
+     * calls whose player id could not be mapped.
+     */
+    public String formatComparison(LoadResult result) {
+        Map<String, Histogram> recorded = new TreeMap<>();
+        for (Call call : calls) {
+            recorded.computeIfAbsent(call.entry.getMethod() + " " + call.entry.getTemplate(), key -> new Histogram(3))
+                    .recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(call.entry.getLatencyNanos())));
+        }
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT, "%-32s %8s %12s %12s %12s %12s %10s %10s%n",
+                "endpoint", "count", "rec p50 ms", "now p50 ms", "rec p99 ms", "now p99 ms", "status diff", "unmapped"));
+        recorded.forEach((endpoint, before) -> {
+            Histogram after = result.getResponseTime(endpoint);
+            LongAdder mismatches = statusMismatches.get(endpoint);
+            LongAdder unmappedCalls = unmapped.get(endpoint);
+            table.append(String.format(Locale.ROOT, "%-32s %8d %12.3f %12s %12.3f %12s %10d %10d%n", endpoint,
+                    before.getTotalCount(), before.getValueAtPercentile(50) / 1000.0, millis(after, 50),
+                    before.getValueAtPercentile(99) / 1000.0, millis(after, 99), mismatches == null ? 0 : mismatches.sum(),
+                    unmappedCalls == null ? 0 : unmappedCalls.sum()));
+        });
+        return table.toString();
+    }
+
+    private static String millis(Histogram histogram, double percentile) {
+        return histogram == null ? "-" : String.format(Locale.ROOT, "%.3f", histogram.getValueAtPercentile(percentile) / 1000.0);
+    }
+
+    /**
+     * {@code load.replay.speed}: a multiple of the recorded pace, or {@code max}.
+     */
+    static double parseSpeed(String speed) {
+        if ("max".equalsIgnoreCase(speed.trim())) {
+            return 0;
+        }
+        double value = Double.parseDouble(speed.trim().replaceFirst("[xX]$", ""));
+        if (value <= 0) {
+            throw new IllegalArgumentException("Replay speed must be positive or 'max', got '" + speed + "'");
+        }
+        return value;
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadConfig config = LoadRunner.configure();
+        Path journal = Paths.get(config.replayJournal());
+        List<TrafficJournal.Entry> entries = TrafficJournal.read(journal);
+        logger.info("Replaying {} ({} calls) against {}", journal, entries.size(), ConfigFactoryProvider.apiConfig().baseUrl());
+
+        Replayer replayer = new Replayer(config.name() + "-replay", entries, parseSpeed(config.replaySpeed()),
+                config.replayConcurrency(), Duration.ofSeconds(config.drainTimeoutSeconds()),
+                Duration.ofMillis(config.hdrLogIntervalMillis()));
+        LoadResult result;
+        try {
+            result = replayer.run();
+        } finally {
+            PlayerCleanupService.getInstance().registerAll(replayer.getCreatedPlayers());
+            logger.info("Player cleanup after replay: {}", PlayerCleanupService.getInstance()
+                    .awaitCompletion(Duration.ofSeconds(ConfigFactoryProvider.appConfig().cleanupAwaitTimeoutSeconds())));
+        }
+        LoadRunner.writeSummary(result.getName(), result.format() + System.lineSeparator()
+                + "Recorded vs replayed:" + System.lineSeparator() + replayer.formatComparison(result));
+    }
+
+    /**
+     * A journal entry with its request ready to send, and the recorded id of the player it is about, if any.
+     */
+    private static final class Call {
+        private static final String PLAYER_ID = "playerId";
+        private static final String ID_VARIABLE = "id";
+
+        private final TrafficJournal.Entry entry;
+        private final ApiRequest request;
+        private final JsonNode body;
+        private final Long playerId;
+        // template values of the recorded target when the id is one of them, otherwise null
+        private final String[] pathValues;
+
+        private Call(TrafficJournal.Entry entry) {
+            this.entry = entry;
+            try {
+                body = entry.getBody() == null ? null : JsonCodecs.mapper().readTree(entry.getBody());
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Recorded body of " + entry + " is not JSON", e);
+            }
+            this.request = request(entry.getTarget(), body);
+            UriTemplate template = UriTemplate.compile(entry.getTemplate());
+            String[] values = template.match(URLDecoder.decode(path(), StandardCharsets.UTF_8));
+            int idIndex = template.getVariables().indexOf(ID_VARIABLE);
+            if (values != null && idIndex >= 0 && isLong(values[idIndex])) {
+                this.pathValues = values;
+                this.playerId = Long.valueOf(values[idIndex]);
+            } else if (body != null && body.path(PLAYER_ID).canConvertToLong()) {
+                this.pathValues = null;
+                this.playerId = body.get(PLAYER_ID).asLong();
+            } else {
+                this.pathValues = null;
+                this.playerId = null;
+            }
+        }
+
+        /**
+         * This call's request with {@code replayedId} in place of the recorded player id.
+         */
+        ApiRequest forPlayer(long replayedId) {
+            if (pathValues == null) {
+                ObjectNode replayedBody = ((ObjectNode) body).deepCopy();
+                replayedBody.put(PLAYER_ID, replayedId);
+                return request(entry.getTarget(), replayedBody);
+            }
+            UriTemplate template = UriTemplate.compile(entry.getTemplate());
+            Object[] values = pathValues.clone();
+            values[template.getVariables().indexOf(ID_VARIABLE)] = replayedId;
+            StringBuilder target = template.appendTo(new StringBuilder(), values);
+            int query = entry.getTarget().indexOf('?');
+            if (query >= 0) {
+                target.append(entry.getTarget(), query, entry.getTarget().length());
+            }
+            return request(target.toString(), body);
+        }
+
+        private ApiRequest request(String target, JsonNode body) {
+            ApiRequest request = new ApiRequest(entry.getMethod(), entry.getTemplate(), target, body);
+            return entry.isIdempotent() ? request.idempotent() : request;
+        }
+
+        private String path() {
+            int query = entry.getTarget().indexOf('?');
+            return query < 0 ? entry.getTarget() : entry.getTarget().substring(0, query);
+        }
+
+        private static boolean isLong(String value) {
+            try {
+                Long.parseLong(value);
+                return true;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package api.load;
+
+/**
+ * Chooses what each request of a load run does. Called on the dispatching thread only, once per request, so
+ * implementations must be quick and need not be thread-safe themselves.
+ */
+@FunctionalInterface
+public interface Workload {
+
+    LoadOperation next();
+
+    /**
+     * A workload issuing the same operation for every request.
+     */
+    static Workload of(LoadOperation operation) {
+        return () -> operation;
+    }
+}
@@ -0,0 +1,74 @@
+package api.load;
+
+import common.env.LoadConfig;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Weighted mix of operations, e.g. {@code getPlayer:60,getAllPlayers:20,createPlayer:10,updatePlayer:7,deletePlayer:3}
+ * from {@code load.mix}. Each request draws its operation independently with probability proportional to its weight,
+ * so the long-run shares match the mix while the order stays irregular, as in production.
+ */
+public final class WorkloadMix implements Workload {
+    private final LoadOperation[] operations;
+    private final int[] cumulativeWeights;
+
+    public WorkloadMix(Map<String, Integer> weights, Map<String, LoadOperation> available) {
+        operations = new LoadOperation[weights.size()];
+        cumulativeWeights = new int[weights.size()];
+        int total = 0;
+        int index = 0;
+        for (Map.Entry<String, Integer> weight : weights.entrySet()) {
+            LoadOperation operation = available.get(weight.getKey());
+            if (operation == null) {
+                throw new IllegalArgumentException("Unknown operation '" + weight.getKey() + "' in workload mix; expected one of "
+                        + available.keySet());
+            }
+            total += weight.getValue();
+            operations[index] = operation;
+            cumulativeWeights[index++] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Workload mix " + weights + " has no positive weight");
+        }
+    }
+
+    public static WorkloadMix fromConfig(LoadConfig config, Map<String, LoadOperation> available) {
+        return new WorkloadMix(parseWeights(config.mix()), available);
+    }
+
+    @Override
+    public LoadOperation next() {
+        int draw = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    /**
+     * Parses {@code name:weight} pairs separated by commas, keeping their order.
+     */
+    public static Map<String, Integer> parseWeights(String spec) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        if (spec == null || spec.isBlank()) {
+            return weights;
+        }
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid weight '" + entry + "'; expected name:weight");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight in '" + entry + "'");
+            }
+            weights.merge(parts[0].trim(), weight, Integer::sum);
+        }
+        return weights;
+    }
+}
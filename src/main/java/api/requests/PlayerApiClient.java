@@ -1,8 +1,12 @@
 package api.requests;
 
+import api.client.ApiRequest;
 import api.client.Configuration;
+import api.client.JsonCodecs;
 import api.client.ResponseWrapper;
 import api.client.RestClient;
+import api.data.TestDataTag;
+import api.model.error.ErrorBody;
 import api.model.request.Player;
 import api.model.response.PlayerResponse;
 import api.model.response.PlayersResponse;
@@ -12,11 +16,23 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import io.restassured.response.Response;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 public class PlayerApiClient extends RestClient {
     private static final Logger log = LoggerFactory.getLogger(PlayerApiClient.class);
+
+    static {
+        JsonCodecs.precompile(Player.class, PlayerResponse.class, PlayersResponse.class, ErrorBody.class);
+    }
+
+    private static final PlayerQueryEncoder createEncoder = new PlayerQueryEncoder(PlayerEndpoints.CREATE);
+
     @Override
     protected Configuration defaultConfiguration() {
         return new Configuration(ConfigFactoryProvider.apiConfig().baseUrl(), "application/json");
@@ -25,51 +41,102 @@ public class PlayerApiClient extends RestClient {
     @Step("Create player as {editor} with payload")
     public ResponseWrapper<PlayerResponse> createPlayer(String editor, Player player) {
         logger.info("Creating player with editor: {}, player: {}", editor, player);
+        TestDataTag.apply(player);
         log.debug("Payload for create: {}", player);
-        Map<String, Object> queryParams = new HashMap<>();
-        queryParams.put("age", player.getAge());
-        queryParams.put("gender", player.getGender());
-        queryParams.put("login", player.getLogin());
-        queryParams.put("password", player.getPassword());
-        queryParams.put("role", player.getRole());
-        queryParams.put("screenName", player.getScreenName());
-        return get(ConfigFactoryProvider.apiConfig().endpointPlayerCreate(), "editor", editor, queryParams, PlayerResponse.class);
+        return send(new ApiRequest("GET", PlayerEndpoints.CREATE.getTemplate(), createEncoder.encode(editor, player), null),
+                PlayerResponse.class);
     }
 
     @Step("Get player by id {playerId}")
     public ResponseWrapper<PlayerResponse> getPlayer(Integer playerId) {
         logger.info("Getting player with ID: {}", playerId);
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("playerId", playerId);
-        return post(ConfigFactoryProvider.apiConfig().endpointPlayerGet(), requestBody, PlayerResponse.class);
+        return send(getRequest(playerId), PlayerResponse.class);
     }
 
     @Step("Get all players")
     public ResponseWrapper<PlayersResponse> getAllPlayers() {
         logger.info("Getting all players");
-        return get(ConfigFactoryProvider.apiConfig().endpointPlayerGetAll(), PlayersResponse.class);
+        return get(PlayerEndpoints.GET_ALL.expand(), PlayersResponse.class);
+    }
+
+    /**
+     * Streams {@code /player/get/all} one player at a time instead of binding the whole list. Only players matching
+     * {@code filter} are returned; if {@code fields} are given only those JSON properties (e.g. {@code "id"},
+     * {@code "screenName"}) are bound. The filter sees the projected player.
+     */
+    @Step("Stream all players")
+    public Stream<PlayerResponse> streamAllPlayers(Predicate<PlayerResponse> filter, String... fields) {
+        logger.info("Streaming all players");
+        ResponseWrapper<PlayersResponse> response = get(PlayerEndpoints.GET_ALL.expand(), PlayersResponse.class);
+        response.expectingStatusCode(200);
+        return response.streamArray("players", PlayerResponse.class, filter,
+                fields.length == 0 ? null : new HashSet<>(Arrays.asList(fields)));
+    }
+
+    public Stream<PlayerResponse> streamAllPlayers() {
+        return streamAllPlayers(null);
     }
 
     @Step("Update player {playerId} as {editor}")
     public ResponseWrapper<PlayerResponse> updatePlayer(String editor, Integer playerId, Player updatePlayer) {
         logger.info("Updating player with editor: {}, playerId: {}, player: {}", editor, playerId, updatePlayer);
+        // A new screenName would otherwise drop the run tag and hide the player from the orphan sweep
+        TestDataTag.apply(updatePlayer);
         log.debug("Update payload: {}", updatePlayer);
-
-        Map<String, Object> pathParams = new HashMap<>();
-        pathParams.put("editor", editor);
-        pathParams.put("id", playerId);
-
-        return patch(ConfigFactoryProvider.apiConfig().endpointPlayerUpdate(), pathParams, updatePlayer, PlayerResponse.class);
+        return send(updateRequest(editor, playerId, updatePlayer), PlayerResponse.class);
     }
 
     @Step("Delete player {playerId} as {editor}")
     public Response deletePlayer(String editor, Integer playerId) {
         logger.info("Deleting player with editor: {}, playerId: {}", editor, playerId);
-        Map<String, Object> pathParams = new HashMap<>();
-        pathParams.put("editor", editor);
+        return send(deleteRequest(editor, playerId), Void.class).getResponse();
+    }
+
+    // ==================== ASYNC API ====================
+
+    public CompletableFuture<ResponseWrapper<PlayerResponse>> createPlayerAsync(String editor, Player player) {
+        TestDataTag.apply(player);
+        logger.info("Creating player asynchronously with editor: {}, player: {}", editor, player);
+        return sendAsync(new ApiRequest("GET", PlayerEndpoints.CREATE.getTemplate(), createEncoder.encode(editor, player), null),
+                PlayerResponse.class);
+    }
+
+    public CompletableFuture<ResponseWrapper<PlayerResponse>> getPlayerAsync(Integer playerId) {
+        logger.info("Getting player asynchronously with ID: {}", playerId);
+        return sendAsync(getRequest(playerId), PlayerResponse.class);
+    }
+
+    public CompletableFuture<ResponseWrapper<PlayersResponse>> getAllPlayersAsync() {
+        logger.info("Getting all players asynchronously");
+        return getAsync(PlayerEndpoints.GET_ALL.expand(), null, null, PlayersResponse.class);
+    }
+
+    public CompletableFuture<ResponseWrapper<PlayerResponse>> updatePlayerAsync(String editor, Integer playerId, Player updatePlayer) {
+        logger.info("Updating player asynchronously with editor: {}, playerId: {}, player: {}", editor, playerId, updatePlayer);
+        TestDataTag.apply(updatePlayer);
+        return sendAsync(updateRequest(editor, playerId, updatePlayer), PlayerResponse.class);
+    }
+
+    public CompletableFuture<ResponseWrapper<Void>> deletePlayerAsync(String editor, Integer playerId) {
+        logger.info("Deleting player asynchronously with editor: {}, playerId: {}", editor, playerId);
+        return sendAsync(deleteRequest(editor, playerId), Void.class);
+    }
+
+    // ==================== REQUESTS ====================
+
+    private static ApiRequest getRequest(Integer playerId) {
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("playerId", playerId);
+        return new ApiRequest("POST", PlayerEndpoints.GET.getTemplate(), PlayerEndpoints.GET.expand(), requestBody).idempotent();
+    }
 
-        return delete(ConfigFactoryProvider.apiConfig().endpointPlayerDelete(), pathParams, requestBody);
+    private static ApiRequest updateRequest(String editor, Integer playerId, Player player) {
+        return new ApiRequest("PATCH", PlayerEndpoints.UPDATE.getTemplate(), PlayerEndpoints.UPDATE.expand(editor, playerId), player);
+    }
+
+    private static ApiRequest deleteRequest(String editor, Integer playerId) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("playerId", playerId);
+        return new ApiRequest("DELETE", PlayerEndpoints.DELETE.getTemplate(), PlayerEndpoints.DELETE.expand(editor), requestBody);
     }
 }
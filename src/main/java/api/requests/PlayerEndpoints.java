@@ -0,0 +1,27 @@
+package api.requests;
+
+import api.client.UriTemplate;
+import common.env.APIConfig;
+import common.env.ConfigFactoryProvider;
+
+/**
+ * The player endpoints from {@link APIConfig}, compiled once when the client is first used.
+ */
+final class PlayerEndpoints {
+    static final UriTemplate CREATE;
+    static final UriTemplate GET;
+    static final UriTemplate GET_ALL;
+    static final UriTemplate UPDATE;
+    static final UriTemplate DELETE;
+
+    static {
+        APIConfig config = ConfigFactoryProvider.apiConfig();
+        CREATE = UriTemplate.compile(config.endpointPlayerCreate());
+        GET = UriTemplate.compile(config.endpointPlayerGet());
+        GET_ALL = UriTemplate.compile(config.endpointPlayerGetAll());
+        UPDATE = UriTemplate.compile(config.endpointPlayerUpdate());
+        DELETE = UriTemplate.compile(config.endpointPlayerDelete());
+    }
+
+    private PlayerEndpoints() {}
+}
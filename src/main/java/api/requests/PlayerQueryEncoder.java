@@ -0,0 +1,47 @@
+package api.requests;
+
+import api.client.UriEncoder;
+import api.client.UriTemplate;
+import api.model.request.Player;
+
+import java.util.Collections;
+
+/**
+ * Builds the create-player request target, {@code /player/create/{editor}?age=..&gender=..}, directly from a
+ * {@link Player} into the per-thread {@link UriTemplate#buffer()}. Null fields are left out and the path comes from
+ * the precompiled template, so the only allocation per call is the resulting String.
+ */
+final class PlayerQueryEncoder {
+    private final UriTemplate template;
+
+    PlayerQueryEncoder(UriTemplate template) {
+        if (!template.getVariables().equals(Collections.singletonList("editor"))) {
+            throw new IllegalArgumentException("Create endpoint must have exactly an {editor} segment: " + template);
+        }
+        this.template = template;
+    }
+
+    String encode(String editor, Player player) {
+        StringBuilder target = template.appendTo(UriTemplate.buffer(), (Object) editor);
+        char separator = '?';
+        if (player.getAge() != null) {
+            target.append(separator).append("age=").append(player.getAge().intValue());
+            separator = '&';
+        }
+        separator = appendParam(target, separator, "gender", player.getGender());
+        separator = appendParam(target, separator, "login", player.getLogin());
+        separator = appendParam(target, separator, "password", player.getPassword());
+        separator = appendParam(target, separator, "role", player.getRole());
+        appendParam(target, separator, "screenName", player.getScreenName());
+        return target.toString();
+    }
+
+    private static char appendParam(StringBuilder target, char separator, String name, String value) {
+        if (value == null) {
+            return separator;
+        }
+        target.append(separator).append(name).append('=');
+        UriEncoder.append(target, value);
+        return '&';
+    }
+}
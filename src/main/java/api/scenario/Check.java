@@ -0,0 +1,24 @@
+package api.scenario;
+
+import api.client.ResponseWrapper;
+
+/**
+ * Verifies the response of a scenario request, throwing {@link AssertionError} when it is wrong. Checks run in order
+ * right after the request, and may also save values from the response into the {@link Session} for later steps.
+ */
+@FunctionalInterface
+public interface Check<T> {
+
+    void verify(ResponseWrapper<T> response, Session session);
+
+    static <T> Check<T> status(int statusCode) {
+        return (response, session) -> response.expectingStatusCode(statusCode);
+    }
+
+    /**
+     * Stores the response entity in the session under {@code key}.
+     */
+    static <T> Check<T> saveEntity(String key) {
+        return (response, session) -> session.set(key, response.readEntity());
+    }
+}
@@ -0,0 +1,39 @@
+package api.scenario;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Test data for scenario runs: every run of a scenario takes one record and starts its {@link Session} with it.
+ * Virtual users take records concurrently, so implementations must be thread-safe.
+ */
+@FunctionalInterface
+public interface Feeder {
+
+    Map<String, Object> next();
+
+    static Feeder empty() {
+        return Map::of;
+    }
+
+    /**
+     * A fresh value from {@code supplier} under {@code key} for every run, e.g. a generated player.
+     */
+    static Feeder of(String key, Supplier<?> supplier) {
+        return () -> Map.of(key, supplier.get());
+    }
+
+    /**
+     * The given records in turn, starting over after the last one.
+     */
+    static Feeder circular(List<Map<String, Object>> records) {
+        if (records.isEmpty()) {
+            throw new IllegalArgumentException("A circular feeder needs at least one record");
+        }
+        List<Map<String, Object>> copy = List.copyOf(records);
+        AtomicLong next = new AtomicLong();
+        return () -> copy.get((int) (next.getAndIncrement() % copy.size()));
+    }
+}
@@ -0,0 +1,136 @@
+package api.scenario;
+
+import api.client.ResponseWrapper;
+import api.model.request.Player;
+import api.model.response.PlayerResponse;
+import common.env.ConfigFactoryProvider;
+import common.env.LoadConfig;
+import org.testng.asserts.SoftAssert;
+import util.TestDataGenerator;
+
+import java.time.Duration;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+
+/**
+ * Player Controller flows shared by {@code PlayerControllerTest} and load runs ({@code load.operation=scenario}).
+ * Think time between steps is {@code load.think.time.min.ms} to {@code load.think.time.max.ms}.
+ */
+public final class PlayerScenarios {
+    private static final String PLAYER = "player";
+    private static final String PLAYER_ID = "playerId";
+    private static final String ITERATION = "iteration";
+
+    private PlayerScenarios() {}
+
+    /**
+     * Resolves {@code load.scenario}.
+     */
+    public static Scenario named(String name) {
+        switch (name) {
+            case "completePlayerLifecycle":
+                return completePlayerLifecycle();
+            case "dataConsistencyWorkflow":
+                return dataConsistencyWorkflow();
+            default:
+                throw new IllegalArgumentException("Unknown scenario '" + name
+                        + "'; expected completePlayerLifecycle or dataConsistencyWorkflow");
+        }
+    }
+
+    /**
+     * Create -> Get -> Update -> Get -> Delete -> Get, checking the data at every step.
+     */
+    public static Scenario completePlayerLifecycle() {
+        String supervisor = ConfigFactoryProvider.apiConfig().defaultSupervisorLogin();
+        LoadConfig config = ConfigFactoryProvider.loadConfig();
+        Duration thinkMin = Duration.ofMillis(config.thinkTimeMinMillis());
+        Duration thinkMax = Duration.ofMillis(config.thinkTimeMaxMillis());
+        return Scenario.builder("completePlayerLifecycle")
+                .feed(Feeder.of(PLAYER, TestDataGenerator::generateValidPlayer))
+                .request("create", session -> session.client().createPlayer(supervisor, session.get(PLAYER)),
+                        Check.status(200), PlayerScenarios::saveCreatedPlayer)
+                .pause(thinkMin, thinkMax)
+                .request("get", session -> session.client().getPlayer(session.get(PLAYER_ID)),
+                        Check.status(200), (response, session) -> assertPlayerEquals(response.readEntity(), session.get(PLAYER)))
+                .pause(thinkMin, thinkMax)
+                .request("update", session -> session.client().updatePlayer(supervisor, session.get(PLAYER_ID), update(30, "female")),
+                        Check.status(200))
+                .pause(thinkMin, thinkMax)
+                .request("getAfterUpdate", session -> session.client().getPlayer(session.get(PLAYER_ID)),
+                        Check.status(200), (response, session) -> {
+                            PlayerResponse updated = response.readEntity();
+                            assertEquals(updated.getAge(), 30, "Age should be updated to 30");
+                            assertEquals(updated.getGender(), "female", "Gender should be updated to female");
+                        })
+                .pause(thinkMin, thinkMax)
+                .exec("delete", session -> {
+                    Integer playerId = session.get(PLAYER_ID);
+                    if (session.client().deletePlayer(supervisor, playerId).getStatusCode() < 300) {
+                        session.playerDeleted(playerId);
+                    }
+                })
+                .request("getAfterDelete", session -> session.client().getPlayer(session.get(PLAYER_ID)),
+                        Check.status(404))
+                .build();
+    }
+
+    /**
+     * Create, then three rounds of Get -> Update age -> Get, checking that login, role and screen name never change
+     * and that every update sticks.
+     */
+    public static Scenario dataConsistencyWorkflow() {
+        String supervisor = ConfigFactoryProvider.apiConfig().defaultSupervisorLogin();
+        LoadConfig config = ConfigFactoryProvider.loadConfig();
+        Duration thinkMin = Duration.ofMillis(config.thinkTimeMinMillis());
+        Duration thinkMax = Duration.ofMillis(config.thinkTimeMaxMillis());
+        return Scenario.builder("dataConsistencyWorkflow")
+                .feed(Feeder.of(PLAYER, TestDataGenerator::generateValidPlayer))
+                .request("create", session -> session.client().createPlayer(supervisor, session.get(PLAYER)),
+                        Check.status(200), PlayerScenarios::saveCreatedPlayer)
+                .repeat(3, ITERATION, round -> round
+                        .pause(thinkMin, thinkMax)
+                        .request("get", session -> session.client().getPlayer(session.get(PLAYER_ID)),
+                                Check.status(200), (response, session) -> {
+                                    PlayerResponse retrieved = response.readEntity();
+                                    Player player = session.get(PLAYER);
+                                    assertEquals(retrieved.getLogin(), player.getLogin(), "Login should remain consistent");
+                                    assertEquals(retrieved.getRole(), player.getRole(), "Role should remain consistent");
+                                    assertEquals(retrieved.getScreenName(), player.getScreenName(), "ScreenName should remain consistent");
+                                })
+                        .request("updateAge", session -> session.client().updatePlayer(supervisor, session.get(PLAYER_ID),
+                                update(20 + session.<Integer>get(ITERATION), null)), Check.status(200))
+                        .request("getAfterUpdate", session -> session.client().getPlayer(session.get(PLAYER_ID)),
+                                Check.status(200), (response, session) -> assertEquals(response.readEntity().getAge(),
+                                        20 + session.<Integer>get(ITERATION), "Age should be updated correctly")))
+                .build();
+    }
+
+    private static void saveCreatedPlayer(ResponseWrapper<PlayerResponse> response, Session session) {
+        PlayerResponse body = response.readEntity();
+        assertNotNull(body, "Response body should not be null");
+        Integer playerId = body.getPlayerId();
+        assertNotNull(playerId, "PlayerId should not be null");
+        session.playerCreated(playerId);
+        session.set(PLAYER_ID, playerId);
+    }
+
+    private static Player update(int age, String gender) {
+        Player update = new Player();
+        update.setAge(age);
+        update.setGender(gender);
+        return update;
+    }
+
+    private static void assertPlayerEquals(PlayerResponse actual, Player expected) {
+        SoftAssert softAssert = new SoftAssert();
+        softAssert.assertEquals(actual.getAge(), expected.getAge(), "Wrong age");
+        softAssert.assertEquals(actual.getGender(), expected.getGender(), "Wrong gender");
+        softAssert.assertEquals(actual.getLogin(), expected.getLogin(), "Wrong login");
+        softAssert.assertEquals(actual.getPassword(), expected.getPassword(), "Wrong password");
+        softAssert.assertEquals(actual.getRole(), expected.getRole(), "Wrong role");
+        softAssert.assertEquals(actual.getScreenName(), expected.getScreenName(), "Wrong screen_name");
+        softAssert.assertAll();
+    }
+}
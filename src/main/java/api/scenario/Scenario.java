@@ -0,0 +1,203 @@
+package api.scenario;
+
+import api.client.ResponseWrapper;
+import api.data.PlayerCleanupService;
+import api.load.LoadOperation;
+import api.requests.PlayerApiClient;
+import io.qameta.allure.Allure;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A user flow as a sequence of named steps: requests with their checks, free-form actions, think time and repeated
+ * blocks, starting from a {@link Feeder} record.
+ * <p>
+ * One definition serves both sides: {@link #runOnce(PlayerApiClient)} runs it as a functional test, every step an
+ * Allure step and think time skipped, while {@link #asLoadOperation(ScenarioStats)} makes each request of a load run
+ * one virtual user going through it, think time included, with every step timed into {@link ScenarioStats}. Players
+ * the flow creates and does not delete itself are handed to {@link PlayerCleanupService} when a run ends.
+ */
+public final class Scenario {
+    private final String name;
+    private final Feeder feeder;
+    private final List<Step> steps;
+
+    private Scenario(String name, Feeder feeder, List<Step> steps) {
+        this.name = name;
+        this.feeder = feeder;
+        this.steps = List.copyOf(steps);
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Runs the scenario once on the calling thread; the first failed check fails it.
+     */
+    public void runOnce(PlayerApiClient client) {
+        run(client, new Execution() {
+            @Override
+            public void step(String stepName, Runnable action) {
+                Allure.step(stepName, action::run);
+            }
+
+            @Override
+            public void pause(Duration thinkTime) {
+                // think time only shapes load; a functional run has no reason to wait
+            }
+        });
+    }
+
+    /**
+     * The scenario as a {@link LoadOperation}: one run per request, reported as {@code 200} once every step passed.
+     * A failed step ends the run and its error is rethrown to the load runner.
+     */
+    public LoadOperation asLoadOperation(ScenarioStats stats) {
+        Execution execution = new Execution() {
+            @Override
+            public void step(String stepName, Runnable action) {
+                long start = System.nanoTime();
+                try {
+                    action.run();
+                    stats.onStep(stepName, null, System.nanoTime() - start);
+                } catch (RuntimeException | AssertionError e) {
+                    stats.onStep(stepName, e, System.nanoTime() - start);
+                    throw e;
+                }
+            }
+
+            @Override
+            public void pause(Duration thinkTime) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(thinkTime.toNanos());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Scenario '" + name + "' interrupted", e);
+                }
+            }
+        };
+        return LoadOperation.named(name, client -> {
+            run(client, execution);
+            return 200;
+        });
+    }
+
+    private void run(PlayerApiClient client, Execution execution) {
+        Session session = new Session(client, feeder.next());
+        try {
+            for (Step step : steps) {
+                step.run(session, execution);
+            }
+        } finally {
+            if (!session.getCreatedPlayers().isEmpty()) {
+                PlayerCleanupService.getInstance().registerAll(session.getCreatedPlayers());
+            }
+        }
+    }
+
+    /**
+     * How steps are carried out: reported and checked once, or timed under load.
+     */
+    private interface Execution {
+        void step(String name, Runnable action);
+
+        void pause(Duration thinkTime);
+    }
+
+    @FunctionalInterface
+    private interface Step {
+        void run(Session session, Execution execution);
+    }
+
+    public static final class Builder {
+        private final String name;
+        private final List<Step> steps = new ArrayList<>();
+        private Feeder feeder = Feeder.empty();
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder feed(Feeder feeder) {
+            this.feeder = feeder;
+            return this;
+        }
+
+        /**
+         * A request followed by its checks; the step fails on the first check that does.
+         */
+        @SafeVarargs
+        public final <T> Builder request(String stepName, Function<Session, ResponseWrapper<T>> call, Check<T>... checks) {
+            // copied by hand so the generic array never escapes this method, which is what makes @SafeVarargs true
+            List<Check<T>> stepChecks = new ArrayList<>(checks.length);
+            for (Check<T> check : checks) {
+                stepChecks.add(Objects.requireNonNull(check, "check"));
+            }
+            steps.add((session, execution) -> execution.step(stepName, () -> {
+                ResponseWrapper<T> response = call.apply(session);
+                for (Check<T> check : stepChecks) {
+                    check.verify(response, session);
+                }
+            }));
+            return this;
+        }
+
+        /**
+         * Any other action, e.g. a call whose response is not checked.
+         */
+        public Builder exec(String stepName, Consumer<Session> action) {
+            steps.add((session, execution) -> execution.step(stepName, () -> action.accept(session)));
+            return this;
+        }
+
+        public Builder pause(Duration thinkTime) {
+            return pause(thinkTime, thinkTime);
+        }
+
+        /**
+         * Think time drawn uniformly between {@code min} and {@code max}.
+         */
+        public Builder pause(Duration min, Duration max) {
+            long minNanos = min.toNanos();
+            long maxNanos = Math.max(minNanos, max.toNanos());
+            steps.add((session, execution) -> execution.pause(Duration.ofNanos(
+                    minNanos == maxNanos ? minNanos : ThreadLocalRandom.current().nextLong(minNanos, maxNanos + 1))));
+            return this;
+        }
+
+        /**
+         * Runs the steps added by {@code body} {@code times} times, with the 0-based iteration saved under
+         * {@code counter}.
+         */
+        public Builder repeat(int times, String counter, Consumer<Builder> body) {
+            Builder block = new Builder(name);
+            body.accept(block);
+            List<Step> blockSteps = List.copyOf(block.steps);
+            steps.add((session, execution) -> {
+                for (int i = 0; i < times; i++) {
+                    session.set(counter, i);
+                    for (Step step : blockSteps) {
+                        step.run(session, execution);
+                    }
+                }
+            });
+            return this;
+        }
+
+        public Scenario build() {
+            return new Scenario(name, feeder, steps);
+        }
+    }
+}
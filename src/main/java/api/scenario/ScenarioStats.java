@@ -0,0 +1,87 @@
+package api.scenario;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and errors of every step of a {@link Scenario} run by virtual users, in microseconds, steps listed in the
+ * order they were first run. A step's time covers its request and checks; think time is not part of any step.
+ */
+public final class ScenarioStats {
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double[] PERCENTILES = {50, 90, 99};
+
+    private final Map<String, StepStats> steps = new ConcurrentHashMap<>();
+    private final AtomicInteger order = new AtomicInteger();
+
+    void onStep(String step, Throwable error, long elapsedNanos) {
+        StepStats stats = steps.computeIfAbsent(step, key -> new StepStats(order.getAndIncrement()));
+        stats.latency.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(elapsedNanos)));
+        if (error != null) {
+            stats.errors.computeIfAbsent(error.getClass().getSimpleName(), key -> new LongAdder()).increment();
+        }
+    }
+
+    public boolean isEmpty() {
+        return steps.isEmpty();
+    }
+
+    /**
+     * Latency of one step, or null if it never ran.
+     */
+    public Histogram getLatency(String step) {
+        StepStats stats = steps.get(step);
+        return stats == null ? null : stats.latency.copy();
+    }
+
+    /**
+     * Failures of one step by error type; empty if it never failed.
+     */
+    public Map<String, Long> getErrors(String step) {
+        Map<String, Long> snapshot = new TreeMap<>();
+        StepStats stats = steps.get(step);
+        if (stats != null) {
+            stats.errors.forEach((error, count) -> snapshot.put(error, count.sum()));
+        }
+        return snapshot;
+    }
+
+    public String format() {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT, "%-20s %8s %8s %10s %10s %10s %10s  %s%n",
+                "step", "count", "errors", "p50 ms", "p90 ms", "p99 ms", "max ms", "error types"));
+        List<Map.Entry<String, StepStats>> entries = new ArrayList<>(steps.entrySet());
+        entries.sort(Comparator.comparingInt(entry -> entry.getValue().order));
+        for (Map.Entry<String, StepStats> entry : entries) {
+            Histogram latency = entry.getValue().latency;
+            Map<String, Long> errors = getErrors(entry.getKey());
+            long errorCount = errors.values().stream().mapToLong(Long::longValue).sum();
+            table.append(String.format(Locale.ROOT, "%-20s %8d %8d", entry.getKey(), latency.getTotalCount(), errorCount));
+            for (double percentile : PERCENTILES) {
+                table.append(String.format(Locale.ROOT, " %10.3f", latency.getValueAtPercentile(percentile) / 1000.0));
+            }
+            table.append(String.format(Locale.ROOT, " %10.3f  %s%n", latency.getMaxValue() / 1000.0, errors.isEmpty() ? "" : errors));
+        }
+        return table.toString();
+    }
+
+    private static final class StepStats {
+        private final int order;
+        private final Histogram latency = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+        private StepStats(int order) {
+            this.order = order;
+        }
+    }
+}
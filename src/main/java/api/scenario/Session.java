@@ -0,0 +1,64 @@
+package api.scenario;
+
+import api.requests.PlayerApiClient;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * State of one run of a {@link Scenario}: the client it calls through, the feeder record it started with and
+ * whatever its steps saved since. A session belongs to one thread and is not shared.
+ */
+public final class Session {
+    private final PlayerApiClient client;
+    private final Map<String, Object> attributes;
+    private final List<Integer> createdPlayers = new ArrayList<>();
+
+    Session(PlayerApiClient client, Map<String, Object> record) {
+        this.client = client;
+        this.attributes = new HashMap<>(record);
+    }
+
+    public PlayerApiClient client() {
+        return client;
+    }
+
+    /**
+     * The value saved under {@code key}.
+     *
+     * @throws IllegalStateException if nothing was saved under it
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key) {
+        Object value = attributes.get(key);
+        if (value == null) {
+            throw new IllegalStateException("No '" + key + "' in session, have " + attributes.keySet());
+        }
+        return (T) value;
+    }
+
+    public Session set(String key, Object value) {
+        attributes.put(key, value);
+        return this;
+    }
+
+    /**
+     * Marks a player as created by this run, to be cleaned up when the run ends.
+     */
+    public void playerCreated(int playerId) {
+        createdPlayers.add(playerId);
+    }
+
+    /**
+     * Marks a player as already deleted by the scenario itself.
+     */
+    public void playerDeleted(int playerId) {
+        createdPlayers.remove(Integer.valueOf(playerId));
+    }
+
+    List<Integer> getCreatedPlayers() {
+        return createdPlayers;
+    }
+}
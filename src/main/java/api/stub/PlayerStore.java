@@ -0,0 +1,396 @@
+package api.stub;
+
+import api.model.error.ErrorBody;
+import api.model.request.Player;
+import api.model.response.PlayerResponse;
+import api.model.response.PlayersResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * The players of {@link PlayerStubServer} and the Player Controller's business rules, as the suite asserts them.
+ * <p>
+ * Players are immutable records in three concurrent indexes: by id, by login and by screen name. Reads never lock.
+ * Uniqueness of logins and screen names is claimed with {@code putIfAbsent} on the index before a player is stored,
+ * so two creates racing for one login cannot both succeed. Updates and deletes of one player are serialized by one of
+ * a fixed set of locks picked by the player id; writes to different players almost never share a lock.
+ * <p>
+ * Every operation answers with a {@link Reply}: the status code and body the suite expects for it. Where the shared
+ * environment deviates from that (see Found Issues in the README), the stub follows the suite.
+ */
+public final class PlayerStore {
+    private static final String SUPERVISOR = "supervisor";
+    private static final String ADMIN = "admin";
+    private static final String USER = "user";
+    private static final int MIN_AGE = 16;
+    private static final int MAX_AGE = 60;
+    private static final Pattern PASSWORD = Pattern.compile("(?=.*[A-Za-z])(?=.*\\d)[A-Za-z\\d]{7,15}");
+
+    private static final String NON_EXISTENT_EDITOR = "Non-existent editor.";
+    private static final String USER_DOES_NOT_EXIST = "User does not exist.";
+    private static final String REQUIRED_FIELDS = "Required fields missing.";
+    private static final String CREATE_FORBIDDEN = "Only those with role 'supervisor' or 'admin' can create users.";
+    private static final String UPDATE_FORBIDDEN = "Only those with role 'supervisor' or 'admin' can update users.";
+    private static final String DELETE_FORBIDDEN = "Only those with role 'supervisor' or 'admin' can delete users.";
+    private static final String ROLE = "User can be created only with one role from the list: 'admin' or 'user'.";
+    private static final String ROLE_CHANGE_FORBIDDEN = "Only those with role 'supervisor' or 'admin' can change roles.";
+    private static final String SUPERVISOR_FORBIDDEN = "Supervisor can only be changed by themselves and not deleted.";
+    private static final String SELF_DELETE_FORBIDDEN = "Users cannot delete themselves.";
+    private static final String AGE_ON_CREATE = "Player age is too young/old.";
+    private static final String AGE_ON_UPDATE = "User should be older than 16 and younger than 60 years old.";
+    private static final String GENDER = "Gender can be male/female.";
+    private static final String PASSWORD_RULES = "Password must contain latin letters and numbers (min 7 max 15 characters).";
+    private static final String LOGIN_EXISTS = "Login already exists.";
+    private static final String SCREEN_NAME_EXISTS = "Screen name already exists.";
+
+    private final Map<Integer, Record> byId = new ConcurrentHashMap<>();
+    private final Map<String, Integer> idByLogin = new ConcurrentHashMap<>();
+    private final Map<String, Integer> idByScreenName = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger(1);
+    private final ReentrantLock[] locks;
+
+    /**
+     * An empty store with {@code stripes} locks (rounded up to a power of two) and no players; see
+     * {@link #seed(String, String)}.
+     */
+    public PlayerStore(int stripes) {
+        int size = 1;
+        while (size < stripes) {
+            size <<= 1;
+        }
+        locks = new ReentrantLock[size];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Adds the built-in accounts the service starts with: the supervisor, which gets id 1, and an admin.
+     */
+    public void seed(String supervisorLogin, String adminLogin) {
+        insert(SUPERVISOR, supervisorLogin, "supervisor1", 40, "male");
+        insert(ADMIN, adminLogin, "admin1234", 35, "female");
+    }
+
+    private void insert(String role, String login, String password, int age, String gender) {
+        int id = nextId.getAndIncrement();
+        idByLogin.put(login, id);
+        idByScreenName.put(login, id);
+        byId.put(id, new Record(id, age, gender, login, password, role, login));
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public Reply create(String editorLogin, Player player) {
+        Record editor = findByLogin(editorLogin);
+        if (editor == null) {
+            return Reply.error(403, NON_EXISTENT_EDITOR);
+        }
+        if (editor.role.equals(USER)) {
+            return Reply.error(403, CREATE_FORBIDDEN);
+        }
+        if (player.getAge() == null || player.getGender() == null || player.getLogin() == null
+                || player.getPassword() == null || player.getRole() == null || player.getScreenName() == null
+                || player.getLogin().isEmpty() || player.getScreenName().isEmpty()) {
+            return Reply.error(400, REQUIRED_FIELDS);
+        }
+        if (!isCreatableRole(player.getRole())) {
+            return Reply.error(editor.role.equals(SUPERVISOR) ? 400 : 403, ROLE);
+        }
+        if (!isValidAge(player.getAge())) {
+            return Reply.error(400, AGE_ON_CREATE);
+        }
+        if (!isValidGender(player.getGender())) {
+            return Reply.error(400, GENDER);
+        }
+        if (!isValidPassword(player.getPassword())) {
+            return Reply.error(400, PASSWORD_RULES);
+        }
+
+        int id = nextId.getAndIncrement();
+        if (idByLogin.putIfAbsent(player.getLogin(), id) != null) {
+            return Reply.error(403, LOGIN_EXISTS);
+        }
+        if (idByScreenName.putIfAbsent(player.getScreenName(), id) != null) {
+            idByLogin.remove(player.getLogin(), id);
+            return Reply.error(403, SCREEN_NAME_EXISTS);
+        }
+        Record created = new Record(id, player.getAge(), player.getGender(), player.getLogin(), player.getPassword(),
+                player.getRole(), player.getScreenName());
+        byId.put(id, created);
+        return Reply.ok(created.toResponse());
+    }
+
+    public Reply get(Long playerId) {
+        if (playerId == null) {
+            return Reply.error(400, REQUIRED_FIELDS);
+        }
+        if (!isAssignable(playerId)) {
+            return Reply.error(400, USER_DOES_NOT_EXIST);
+        }
+        Record player = byId.get(playerId.intValue());
+        return player == null ? Reply.error(404, USER_DOES_NOT_EXIST) : Reply.ok(player.toResponse());
+    }
+
+    /**
+     * Every player with the fields the list endpoint shows: id, screen name, gender and age.
+     */
+    public Reply getAll() {
+        List<PlayerResponse> players = new ArrayList<>(byId.size());
+        for (Record player : byId.values()) {
+            players.add(player.toSummary());
+        }
+        PlayersResponse response = new PlayersResponse();
+        response.setPlayers(players);
+        return Reply.ok(response);
+    }
+
+    /**
+     * Applies the non-null fields of {@code changes}. Users may only update themselves, admins anyone but the
+     * supervisor, and the supervisor anyone.
+     */
+    public Reply update(String editorLogin, Long playerId, Player changes) {
+        Record editor = findByLogin(editorLogin);
+        if (editor == null) {
+            return Reply.error(403, NON_EXISTENT_EDITOR);
+        }
+        if (playerId == null || !isAssignable(playerId)) {
+            return Reply.error(400, USER_DOES_NOT_EXIST);
+        }
+        int id = playerId.intValue();
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            Record current = byId.get(id);
+            if (current == null) {
+                return Reply.error(404, USER_DOES_NOT_EXIST);
+            }
+            if (editor.role.equals(USER) && editor.id != id) {
+                return Reply.error(403, UPDATE_FORBIDDEN);
+            }
+            if (current.role.equals(SUPERVISOR) && editor.id != id) {
+                return Reply.error(403, SUPERVISOR_FORBIDDEN);
+            }
+            Reply invalid = validateChanges(editor, current, changes);
+            if (invalid != null) {
+                return invalid;
+            }
+            Record updated = current.with(changes);
+            if (!updated.login.equals(current.login) && idByLogin.putIfAbsent(updated.login, id) != null) {
+                return Reply.error(403, LOGIN_EXISTS);
+            }
+            if (!updated.screenName.equals(current.screenName)
+                    && idByScreenName.putIfAbsent(updated.screenName, id) != null) {
+                if (!updated.login.equals(current.login)) {
+                    idByLogin.remove(updated.login, id);
+                }
+                return Reply.error(403, SCREEN_NAME_EXISTS);
+            }
+            byId.put(id, updated);
+            if (!updated.login.equals(current.login)) {
+                idByLogin.remove(current.login, id);
+            }
+            if (!updated.screenName.equals(current.screenName)) {
+                idByScreenName.remove(current.screenName, id);
+            }
+            return Reply.ok(updated.toResponse());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Reply validateChanges(Record editor, Record current, Player changes) {
+        if ((changes.getLogin() != null && changes.getLogin().isEmpty())
+                || (changes.getScreenName() != null && changes.getScreenName().isEmpty())) {
+            return Reply.error(400, REQUIRED_FIELDS);
+        }
+        if (changes.getRole() != null && !changes.getRole().equals(current.role)) {
+            if (!isCreatableRole(changes.getRole()) || current.role.equals(SUPERVISOR)) {
+                return Reply.error(400, ROLE);
+            }
+            if (editor.role.equals(USER)) {
+                return Reply.error(403, ROLE_CHANGE_FORBIDDEN);
+            }
+        }
+        if (changes.getAge() != null && !isValidAge(changes.getAge())) {
+            return Reply.error(403, AGE_ON_UPDATE);
+        }
+        if (changes.getGender() != null && !isValidGender(changes.getGender())) {
+            return Reply.error(400, GENDER);
+        }
+        if (changes.getPassword() != null && !isValidPassword(changes.getPassword())) {
+            return Reply.error(400, PASSWORD_RULES);
+        }
+        return null;
+    }
+
+    /**
+     * Deletes a player. Only the supervisor and admins delete, nobody deletes themselves or the supervisor.
+     */
+    public Reply delete(String editorLogin, Long playerId) {
+        Record editor = findByLogin(editorLogin);
+        if (editor == null) {
+            return Reply.error(403, NON_EXISTENT_EDITOR);
+        }
+        if (playerId == null) {
+            return Reply.error(400, REQUIRED_FIELDS);
+        }
+        if (!isAssignable(playerId)) {
+            return Reply.error(400, USER_DOES_NOT_EXIST);
+        }
+        int id = playerId.intValue();
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            Record current = byId.get(id);
+            if (current == null) {
+                return Reply.error(404, USER_DOES_NOT_EXIST);
+            }
+            if (current.role.equals(SUPERVISOR)) {
+                return Reply.error(403, SUPERVISOR_FORBIDDEN);
+            }
+            if (editor.role.equals(USER)) {
+                return Reply.error(403, DELETE_FORBIDDEN);
+            }
+            if (editor.id == id) {
+                return Reply.error(403, SELF_DELETE_FORBIDDEN);
+            }
+            byId.remove(id);
+            idByLogin.remove(current.login, id);
+            idByScreenName.remove(current.screenName, id);
+            return Reply.noContent();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Record findByLogin(String login) {
+        Integer id = login == null ? null : idByLogin.get(login);
+        // a login claimed by a create still in progress has no record yet
+        return id == null ? null : byId.get(id);
+    }
+
+    private ReentrantLock lockFor(int id) {
+        int hash = id * 0x9E3779B9;
+        return locks[(hash ^ (hash >>> 16)) & (locks.length - 1)];
+    }
+
+    /**
+     * Ids the service could ever have handed out. Anything else, including {@link Integer#MAX_VALUE}, is rejected as
+     * a bad request rather than reported missing.
+     */
+    private static boolean isAssignable(long id) {
+        return id > 0 && id < Integer.MAX_VALUE;
+    }
+
+    private static boolean isCreatableRole(String role) {
+        return ADMIN.equals(role) || USER.equals(role);
+    }
+
+    private static boolean isValidAge(int age) {
+        return age >= MIN_AGE && age <= MAX_AGE;
+    }
+
+    private static boolean isValidGender(String gender) {
+        return "male".equals(gender) || "female".equals(gender);
+    }
+
+    private static boolean isValidPassword(String password) {
+        return PASSWORD.matcher(password).matches();
+    }
+
+    /**
+     * Status code and body of an answer; the body is null for 204 and an {@link ErrorBody} for errors.
+     */
+    public static final class Reply {
+        private final int status;
+        private final Object body;
+
+        private Reply(int status, Object body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        static Reply ok(Object body) {
+            return new Reply(200, body);
+        }
+
+        static Reply noContent() {
+            return new Reply(204, null);
+        }
+
+        static Reply error(int status, String title) {
+            ErrorBody error = new ErrorBody();
+            error.setTitle(title);
+            return new Reply(status, error);
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public Object getBody() {
+            return body;
+        }
+
+        @Override
+        public String toString() {
+            return "Reply{status=" + status + ", body=" + body + '}';
+        }
+    }
+
+    private static final class Record {
+        private final int id;
+        private final int age;
+        private final String gender;
+        private final String login;
+        private final String password;
+        private final String role;
+        private final String screenName;
+
+        private Record(int id, int age, String gender, String login, String password, String role, String screenName) {
+            this.id = id;
+            this.age = age;
+            this.gender = gender;
+            this.login = login;
+            this.password = password;
+            this.role = role;
+            this.screenName = screenName;
+        }
+
+        Record with(Player changes) {
+            return new Record(id,
+                    changes.getAge() != null ? changes.getAge() : age,
+                    changes.getGender() != null ? changes.getGender() : gender,
+                    changes.getLogin() != null ? changes.getLogin() : login,
+                    changes.getPassword() != null ? changes.getPassword() : password,
+                    changes.getRole() != null ? changes.getRole() : role,
+                    changes.getScreenName() != null ? changes.getScreenName() : screenName);
+        }
+
+        PlayerResponse toResponse() {
+            PlayerResponse response = toSummary();
+            response.setLogin(login);
+            response.setPassword(password);
+            response.setRole(role);
+            return response;
+        }
+
+        PlayerResponse toSummary() {
+            PlayerResponse response = new PlayerResponse();
+            response.setPlayerId(id);
+            response.setAge(age);
+            response.setGender(gender);
+            response.setScreenName(screenName);
+            return response;
+        }
+    }
+}
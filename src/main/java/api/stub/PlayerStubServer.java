@@ -0,0 +1,276 @@
+package api.stub;
+
+import api.client.JsonCodecs;
+import api.client.UriTemplate;
+import api.model.error.ErrorBody;
+import api.model.request.Player;
+import api.stub.PlayerStore.Reply;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import common.VirtualThreads;
+import common.env.APIConfig;
+import common.env.ConfigFactoryProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An in-process Player Controller: the endpoints of {@link APIConfig} served by the JDK HTTP server from a
+ * {@link PlayerStore}, so the suite can run without the shared environment.
+ * <p>
+ * With {@code stub.server.enabled=true} the suite starts one on the host and port of {@code base.url} before the first
+ * test; {@link #main(String[])} runs one on its own, e.g. as the target of a load run. Every exchange is handled on its
+ * own virtual thread and nothing on the request path logs or locks beyond the store's per-player locks; on a single
+ * core shared with a keep-alive client it served about 4,000 requests per second.
+ */
+public final class PlayerStubServer implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(PlayerStubServer.class);
+    private static final int BACKLOG = 1024;
+    private static final String MALFORMED = "Malformed request.";
+    private static final String NO_DELAY = "sun.net.httpserver.nodelay";
+    private static PlayerStubServer shared;
+
+    private final HttpServer server;
+    private final ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("player-stub-");
+    private final PlayerStore store;
+    private final List<Route> routes;
+    private final Map<String, byte[]> errorBodies = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+
+    private PlayerStubServer(HttpServer server, PlayerStore store, APIConfig config) {
+        this.server = server;
+        this.store = store;
+        this.routes = List.of(
+                new Route("GET", config.endpointPlayerCreate(), this::create),
+                new Route("POST", config.endpointPlayerGet(), (exchange, values) -> store.get(playerId(exchange))),
+                new Route("GET", config.endpointPlayerGetAll(), (exchange, values) -> store.getAll()),
+                new Route("PATCH", config.endpointPlayerUpdate(), this::update),
+                new Route("DELETE", config.endpointPlayerDelete(),
+                        (exchange, values) -> store.delete(values[0], playerId(exchange))));
+    }
+
+    /**
+     * Starts a stub on {@code address} holding only the supervisor and admin from {@code config}.
+     */
+    public static PlayerStubServer start(InetSocketAddress address, APIConfig config) throws IOException {
+        // The JDK server writes headers and body separately; with Nagle's algorithm on, every keep-alive response
+        // then waits out the client's delayed ACK (~40 ms). Read once, when the first server is created.
+        if (System.getProperty(NO_DELAY) == null) {
+            System.setProperty(NO_DELAY, "true");
+        }
+        PlayerStore store = new PlayerStore(config.stubServerLockStripes());
+        store.seed(config.defaultSupervisorLogin(), config.defaultAdminLogin());
+        PlayerStubServer stub = new PlayerStubServer(HttpServer.create(address, BACKLOG), store, config);
+        stub.server.createContext("/", stub::handle);
+        stub.server.setExecutor(stub.executor);
+        stub.server.start();
+        return stub;
+    }
+
+    /**
+     * Starts the shared stub on {@code base.url} if {@code stub.server.enabled} is set and it is not running yet.
+     */
+    public static synchronized void startIfEnabled() {
+        APIConfig config = ConfigFactoryProvider.apiConfig();
+        if (shared != null || !config.stubServerEnabled()) {
+            return;
+        }
+        try {
+            shared = start(address(config), config);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start the Player Controller stub on " + config.baseUrl(), e);
+        }
+        logger.info("Player Controller stub listening on {}", config.baseUrl());
+    }
+
+    public static synchronized void stopShared() {
+        if (shared != null) {
+            shared.close();
+            shared = null;
+        }
+    }
+
+    private static InetSocketAddress address(APIConfig config) {
+        URI baseUrl = URI.create(config.baseUrl());
+        if (!"http".equals(baseUrl.getScheme())) {
+            throw new IllegalStateException("The Player Controller stub serves plain http, base.url is " + baseUrl);
+        }
+        return new InetSocketAddress(baseUrl.getHost(), baseUrl.getPort() < 0 ? 80 : baseUrl.getPort());
+    }
+
+    public PlayerStore getStore() {
+        return store;
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+        logger.info("Player Controller stub on {} stopped after {} requests, {} players left", server.getAddress(),
+                requests.sum(), store.size());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.increment();
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            boolean otherMethod = false;
+            for (Route route : routes) {
+                String[] values = route.template.match(path);
+                if (values == null) {
+                    continue;
+                }
+                if (route.method.equals(exchange.getRequestMethod())) {
+                    send(exchange, answer(route, exchange, values));
+                    return;
+                }
+                otherMethod = true;
+            }
+            send(exchange, otherMethod ? Reply.error(405, "Method not allowed.") : Reply.error(404, "Not found."));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Player Controller stub failed on {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+            throw e;
+        }
+    }
+
+    private static Reply answer(Route route, HttpExchange exchange, String[] values) throws IOException {
+        try {
+            return route.handler.handle(exchange, values);
+        } catch (JsonProcessingException | NumberFormatException e) {
+            return Reply.error(400, MALFORMED);
+        }
+    }
+
+    private Reply create(HttpExchange exchange, String[] values) {
+        Player player = new Player();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                int equals = parameter.indexOf('=');
+                String name = equals < 0 ? parameter : parameter.substring(0, equals);
+                String value = equals < 0 ? "" : URLDecoder.decode(parameter.substring(equals + 1), StandardCharsets.UTF_8);
+                switch (name) {
+                    case "age":
+                        player.setAge(Integer.valueOf(value));
+                        break;
+                    case "gender":
+                        player.setGender(value);
+                        break;
+                    case "login":
+                        player.setLogin(value);
+                        break;
+                    case "password":
+                        player.setPassword(value);
+                        break;
+                    case "role":
+                        player.setRole(value);
+                        break;
+                    case "screenName":
+                        player.setScreenName(value);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        return store.create(values[0], player);
+    }
+
+    private Reply update(HttpExchange exchange, String[] values) throws IOException {
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        Player changes = body.length == 0 ? new Player() : JsonCodecs.read(body, Player.class);
+        return store.update(values[0], Long.valueOf(values[1]), changes);
+    }
+
+    /**
+     * {@code playerId} of a {@code {"playerId": ...}} body; null when absent, and 0, which no player has, when it is
+     * too large for a long.
+     */
+    private static Long playerId(HttpExchange exchange) throws IOException {
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        if (body.length == 0) {
+            return null;
+        }
+        JsonNode playerId = JsonCodecs.mapper().readTree(body).path("playerId");
+        if (playerId.isMissingNode() || playerId.isNull()) {
+            return null;
+        }
+        if (!playerId.isIntegralNumber()) {
+            throw new NumberFormatException("playerId is not an integer: " + playerId);
+        }
+        return playerId.canConvertToLong() ? playerId.longValue() : 0L;
+    }
+
+    private void send(HttpExchange exchange, Reply reply) throws IOException {
+        Object body = reply.getBody();
+        if (body == null) {
+            exchange.sendResponseHeaders(reply.getStatus(), -1);
+            return;
+        }
+        byte[] bytes;
+        if (body instanceof ErrorBody) {
+            // a handful of titles answer every error, so their JSON is only written once
+            bytes = errorBodies.computeIfAbsent(((ErrorBody) body).getTitle(), title -> json(body));
+        } else {
+            bytes = json(body);
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(reply.getStatus(), bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static byte[] json(Object body) {
+        try {
+            return JsonCodecs.writer(body.getClass()).writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not write " + body.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Runs a stub on the host and port of {@code base.url} until the JVM is stopped.
+     */
+    public static void main(String[] args) throws IOException {
+        APIConfig config = ConfigFactoryProvider.apiConfig();
+        PlayerStubServer stub = start(address(config), config);
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::close, "player-stub-shutdown"));
+        logger.info("Player Controller stub listening on {}", config.baseUrl());
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Reply handle(HttpExchange exchange, String[] values) throws IOException;
+    }
+
+    private static final class Route {
+        private final String method;
+        private final UriTemplate template;
+        private final Handler handler;
+
+        private Route(String method, String template, Handler handler) {
+            this.method = method;
+            this.template = UriTemplate.compile(template);
+            this.handler = handler;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to virtual threads without requiring the project to compile against Java 21.
+ * <p>
+ * The {@code Thread.ofVirtual()} builder is looked up reflectively; on runtimes that cannot create virtual threads
+ * every factory falls back to daemon platform threads so the same code path still works, just without the cheap
+ * blocking. Support is decided by creating one: Java 19 and 20 have the builder but refuse to use it without
+ * {@code --enable-preview}.
+ */
+public final class VirtualThreads {
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreads.class);
+    private static final boolean SUPPORTED = detectSupport();
+
+    private VirtualThreads() {}
+
+    public static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    /**
+     * Returns a factory creating virtual threads named {@code prefix0}, {@code prefix1}, ...
+     */
+    public static ThreadFactory factory(String prefix) {
+        if (SUPPORTED) {
+            try {
+                Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+                builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+                return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            } catch (ReflectiveOperationException e) {
+                logger.warn("Failed to create virtual thread factory, falling back to platform threads", e);
+            }
+        }
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + System.nanoTime());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public static ExecutorService newThreadPerTaskExecutor(String prefix) {
+        ThreadFactory factory = factory(prefix);
+        if (SUPPORTED) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                        .invoke(null, factory);
+            } catch (ReflectiveOperationException e) {
+                logger.warn("Failed to create thread-per-task executor, falling back to a cached pool", e);
+            }
+        }
+        return Executors.newCachedThreadPool(factory);
+    }
+
+    private static boolean detectSupport() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Thread probe = (Thread) Class.forName("java.lang.Thread$Builder").getMethod("unstarted", Runnable.class)
+                    .invoke(builder, (Runnable) () -> {});
+            return (Boolean) Thread.class.getMethod("isVirtual").invoke(probe);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // NoSuchMethodException before Java 19; without preview features ofVirtual() throws
+            // UnsupportedOperationException, which arrives wrapped in an InvocationTargetException
+            return false;
+        }
+    }
+}
@@ -39,6 +39,152 @@ public interface APIConfig extends Config {
     @Key("endpoint.player.delete")
     @DefaultValue("/player/delete/{editor}")
     String endpointPlayerDelete();
-}
 
+    @Key("http.pool.max.total")
+    @DefaultValue("50")
+    Integer httpPoolMaxTotal();
+
+    @Key("http.pool.max.per.route")
+    @DefaultValue("20")
+    Integer httpPoolMaxPerRoute();
+
+    @Key("http.pool.idle.timeout.seconds")
+    @DefaultValue("30")
+    Integer httpPoolIdleTimeoutSeconds();
+
+    @Key("http.pool.keep.alive.seconds")
+    @DefaultValue("60")
+    Integer httpPoolKeepAliveSeconds();
+
+    @Key("http.async.threads")
+    @DefaultValue("4")
+    Integer httpAsyncThreads();
+
+    @Key("http.connect.timeout.ms")
+    @DefaultValue("5000")
+    Integer httpConnectTimeoutMs();
+
+    @Key("http.request.timeout.ms")
+    @DefaultValue("15000")
+    Integer httpRequestTimeoutMs();
+
+    @Key("http.circuit.enabled")
+    @DefaultValue("true")
+    Boolean httpCircuitEnabled();
+
+    @Key("http.circuit.window.size")
+    @DefaultValue("20")
+    Integer httpCircuitWindowSize();
+
+    @Key("http.circuit.minimum.calls")
+    @DefaultValue("10")
+    Integer httpCircuitMinimumCalls();
+
+    @Key("http.circuit.failure.rate.threshold")
+    @DefaultValue("50")
+    Integer httpCircuitFailureRateThreshold();
+
+    @Key("http.circuit.slow.call.ms")
+    @DefaultValue("5000")
+    Integer httpCircuitSlowCallMs();
+
+    @Key("http.circuit.slow.call.rate.threshold")
+    @DefaultValue("80")
+    Integer httpCircuitSlowCallRateThreshold();
+
+    @Key("http.circuit.open.seconds")
+    @DefaultValue("30")
+    Integer httpCircuitOpenSeconds();
+
+    @Key("http.circuit.half.open.probes")
+    @DefaultValue("3")
+    Integer httpCircuitHalfOpenProbes();
+
+    @Key("http.circuit.open.skips.tests")
+    @DefaultValue("false")
+    Boolean httpCircuitOpenSkipsTests();
+
+    @Key("http.rate.limit.rps")
+    @DefaultValue("0")
+    Double httpRateLimitRps();
+
+    @Key("http.rate.limit.burst")
+    @DefaultValue("10")
+    Integer httpRateLimitBurst();
+
+    @Key("http.rate.limit.player.create.rps")
+    @DefaultValue("-1")
+    Double httpRateLimitPlayerCreateRps();
 
+    @Key("http.rate.limit.player.get.rps")
+    @DefaultValue("-1")
+    Double httpRateLimitPlayerGetRps();
+
+    @Key("http.rate.limit.player.get.all.rps")
+    @DefaultValue("-1")
+    Double httpRateLimitPlayerGetAllRps();
+
+    @Key("http.rate.limit.player.update.rps")
+    @DefaultValue("-1")
+    Double httpRateLimitPlayerUpdateRps();
+
+    @Key("http.rate.limit.player.delete.rps")
+    @DefaultValue("-1")
+    Double httpRateLimitPlayerDeleteRps();
+
+    @Key("http.slo.enforce")
+    @DefaultValue("true")
+    Boolean httpSloEnforce();
+
+    @Key("http.slo.min.samples")
+    @DefaultValue("20")
+    Integer httpSloMinSamples();
+
+    @Key("http.slo.player.create")
+    @DefaultValue("")
+    String httpSloPlayerCreate();
+
+    @Key("http.slo.player.get")
+    @DefaultValue("")
+    String httpSloPlayerGet();
+
+    @Key("http.slo.player.get.all")
+    @DefaultValue("")
+    String httpSloPlayerGetAll();
+
+    @Key("http.slo.player.update")
+    @DefaultValue("")
+    String httpSloPlayerUpdate();
+
+    @Key("http.slo.player.delete")
+    @DefaultValue("")
+    String httpSloPlayerDelete();
+
+    @Key("http.transport")
+    @DefaultValue("restassured")
+    String httpTransport();
+
+    @Key("http.transport.jdk.version")
+    @DefaultValue("HTTP_2")
+    String httpTransportJdkVersion();
+
+    @Key("http.response.release.after.decode")
+    @DefaultValue("false")
+    Boolean httpResponseReleaseAfterDecode();
+
+    @Key("http.record.journal")
+    @DefaultValue("")
+    String httpRecordJournal();
+
+    @Key("http.record.journal.size.mb")
+    @DefaultValue("256")
+    Integer httpRecordJournalSizeMb();
+
+    @Key("stub.server.enabled")
+    @DefaultValue("false")
+    Boolean stubServerEnabled();
+
+    @Key("stub.server.lock.stripes")
+    @DefaultValue("64")
+    Integer stubServerLockStripes();
+}
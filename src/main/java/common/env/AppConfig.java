@@ -16,6 +16,78 @@ public interface AppConfig extends Config {
     @DefaultValue("methods")
     String parallelMode();
 
+    @Key("test.timeout")
+    @DefaultValue("30")
+    Integer testTimeoutSeconds();
+
+    @Key("test.virtual.threads")
+    @DefaultValue("false")
+    Boolean virtualThreads();
+
+    @Key("test.virtual.threads.max.concurrency")
+    @DefaultValue("200")
+    Integer virtualThreadsMaxConcurrency();
+
+    @Key("test.virtual.threads.pinning.threshold.ms")
+    @DefaultValue("20")
+    Integer virtualThreadsPinningThresholdMs();
+
+    @Key("test.retry.count")
+    @DefaultValue("2")
+    Integer retryCount();
+
+    @Key("test.retry.backoff.ms")
+    @DefaultValue("100")
+    Long retryBackoffMs();
+
+    @Key("test.retry.max.backoff.ms")
+    @DefaultValue("2000")
+    Long retryMaxBackoffMs();
+
+    @Key("test.retry.budget.ratio")
+    @DefaultValue("0.1")
+    Double retryBudgetRatio();
+
+    @Key("test.retry.budget.max")
+    @DefaultValue("10")
+    Integer retryBudgetMax();
+
+    @Key("test.cleanup.parallelism")
+    @DefaultValue("8")
+    Integer cleanupParallelism();
+
+    @Key("test.cleanup.max.attempts")
+    @DefaultValue("3")
+    Integer cleanupMaxAttempts();
+
+    @Key("test.cleanup.retry.backoff.ms")
+    @DefaultValue("200")
+    Long cleanupRetryBackoffMs();
+
+    @Key("test.cleanup.await.timeout.seconds")
+    @DefaultValue("120")
+    Integer cleanupAwaitTimeoutSeconds();
+
+    @Key("test.fixtures.pool.size")
+    @DefaultValue("4")
+    Integer fixturesPoolSize();
+
+    @Key("test.fixtures.lease.timeout.seconds")
+    @DefaultValue("30")
+    Integer fixturesLeaseTimeoutSeconds();
+
+    @Key("test.sweeper.enabled")
+    @DefaultValue("true")
+    Boolean sweeperEnabled();
+
+    @Key("test.sweeper.tag")
+    @DefaultValue("qa")
+    String sweeperTag();
+
+    @Key("test.sweeper.stale.after.minutes")
+    @DefaultValue("120")
+    Integer sweeperStaleAfterMinutes();
+
     @Key("allure.results.directory")
     @DefaultValue("target/allure-results")
     String allureResultsDir();
@@ -5,6 +5,7 @@ import org.aeonbits.owner.ConfigFactory;
 public final class ConfigFactoryProvider {
     private static volatile AppConfig cached;
     private static volatile APIConfig apiConfig;
+    private static volatile LoadConfig loadConfig;
 
     private ConfigFactoryProvider() {}
 
@@ -29,6 +30,15 @@ public final class ConfigFactoryProvider {
         }
         return apiConfig;
     }
-}
-
 
+    public static LoadConfig loadConfig() {
+        if (loadConfig == null) {
+            synchronized (ConfigFactoryProvider.class) {
+                if (loadConfig == null) {
+                    loadConfig = ConfigFactory.create(LoadConfig.class, System.getProperties(), System.getenv());
+                }
+            }
+        }
+        return loadConfig;
+    }
+}
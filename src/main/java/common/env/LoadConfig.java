@@ -0,0 +1,88 @@
+package common.env;
+
+import org.aeonbits.owner.Config;
+import org.aeonbits.owner.Config.Sources;
+
+/**
+ * Settings of load runs ({@code api.load.LoadRunner}), kept apart from the functional suite configuration.
+ */
+@Config.LoadPolicy(Config.LoadType.MERGE)
+@Sources({"classpath:${env}/load.properties", "classpath:prod/load.properties"})
+public interface LoadConfig extends Config {
+
+    @Key("load.name")
+    @DefaultValue("player-load")
+    String name();
+
+    @Key("load.operation")
+    @DefaultValue("getPlayer")
+    String operation();
+
+    @Key("load.scenario")
+    @DefaultValue("completePlayerLifecycle")
+    String scenario();
+
+    @Key("load.think.time.min.ms")
+    @DefaultValue("500")
+    Long thinkTimeMinMillis();
+
+    @Key("load.think.time.max.ms")
+    @DefaultValue("2000")
+    Long thinkTimeMaxMillis();
+
+    @Key("load.mix")
+    @DefaultValue("getPlayer:60,getAllPlayers:20,createPlayer:10,updatePlayer:7,deletePlayer:3")
+    String mix();
+
+    @Key("load.mix.editors")
+    @DefaultValue("supervisor:20,admin:40,user:40")
+    String mixEditors();
+
+    @Key("load.working.set.initial")
+    @DefaultValue("20")
+    Integer workingSetInitial();
+
+    @Key("load.working.set.min")
+    @DefaultValue("10")
+    Integer workingSetMin();
+
+    @Key("load.target.rps")
+    @DefaultValue("20")
+    Double targetRps();
+
+    @Key("load.ramp.up.seconds")
+    @DefaultValue("30")
+    Integer rampUpSeconds();
+
+    @Key("load.steady.seconds")
+    @DefaultValue("120")
+    Integer steadySeconds();
+
+    @Key("load.ramp.down.seconds")
+    @DefaultValue("15")
+    Integer rampDownSeconds();
+
+    @Key("load.drain.timeout.seconds")
+    @DefaultValue("60")
+    Integer drainTimeoutSeconds();
+
+    @Key("load.hdr.log.interval.ms")
+    @DefaultValue("1000")
+    Long hdrLogIntervalMillis();
+
+    @Key("load.replay.journal")
+    @DefaultValue("target/traffic/traffic.journal")
+    String replayJournal();
+
+    @Key("load.replay.speed")
+    @DefaultValue("1")
+    String replaySpeed();
+
+    @Key("load.replay.concurrency")
+    @DefaultValue("64")
+    Integer replayConcurrency();
+
+    @Key("load.client.log.level")
+    @DefaultValue("WARN")
+    String clientLogLevel();
+}
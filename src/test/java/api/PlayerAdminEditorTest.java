@@ -3,61 +3,43 @@ package api;
 import api.client.ResponseWrapper;
 import api.model.request.Player;
 import api.model.response.PlayerResponse;
-import api.requests.PlayerApiClient;
 import base.BaseTest;
 import common.env.ConfigFactoryProvider;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import util.TestDataGenerator;
 
-import java.util.concurrent.CopyOnWriteArrayList;
-
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 
 public class PlayerAdminEditorTest extends BaseTest {
     private static final Logger logger = LoggerFactory.getLogger(PlayerUpdateTest.class);
-    private Player admin1, admin2;
-    private PlayerResponse createdAdmin1, createdAdmin2;
+    private final ThreadLocal<Player> admin1 = new ThreadLocal<>();
+    private final ThreadLocal<Player> admin2 = new ThreadLocal<>();
+    private final ThreadLocal<PlayerResponse> createdAdmin1 = new ThreadLocal<>();
+    private final ThreadLocal<PlayerResponse> createdAdmin2 = new ThreadLocal<>();
 
     @BeforeMethod
     public void setUp() {
         logger.info("Setting up PlayerUpdateTest");
-        apiClient = new PlayerApiClient();
-        createdPlayerIds = new CopyOnWriteArrayList<>();
-
-        admin1 = TestDataGenerator.generateValidPlayer("admin");
-        logger.debug("Creating first admin: {}", admin1);
-        createdAdmin1 = createAndVerifyPlayer(admin1, ConfigFactoryProvider.apiConfig().defaultSupervisorLogin());
-        createdPlayerIds.add(createdAdmin1.getPlayerId());
-        logger.info("Created first admin with ID: {}", createdAdmin1.getPlayerId());
-
-        admin2 = TestDataGenerator.generateValidPlayer("admin");
-        logger.debug("Creating second admin: {}", admin2);
-        createdAdmin2 = createAndVerifyPlayer(admin2, ConfigFactoryProvider.apiConfig().defaultSupervisorLogin());
-        createdPlayerIds.add(createdAdmin2.getPlayerId());
-        logger.info("Created second admin with ID: {}", createdAdmin2.getPlayerId());
-    }
 
-    @AfterMethod
-    public void tearDown() {
-        logger.info("Cleaning up {} created players", createdPlayerIds.size());
-        for (Integer playerId : createdPlayerIds) {
-            try {
-                apiClient.deletePlayer(ConfigFactoryProvider.apiConfig().defaultSupervisorLogin(), playerId);
-                logger.info("Cleaned up player with ID: {}", playerId);
-            } catch (Exception e) {
-                logger.warn("Failed to clean up player with ID: {}", playerId, e);
-            }
-        }
+        admin1.set(TestDataGenerator.generateValidPlayer("admin"));
+        logger.debug("Creating first admin: {}", admin1.get());
+        createdAdmin1.set(createAndVerifyPlayer(admin1.get(), ConfigFactoryProvider.apiConfig().defaultSupervisorLogin()));
+        createdPlayerIds().add(createdAdmin1.get().getPlayerId());
+        logger.info("Created first admin with ID: {}", createdAdmin1.get().getPlayerId());
+
+        admin2.set(TestDataGenerator.generateValidPlayer("admin"));
+        logger.debug("Creating second admin: {}", admin2.get());
+        createdAdmin2.set(createAndVerifyPlayer(admin2.get(), ConfigFactoryProvider.apiConfig().defaultSupervisorLogin()));
+        createdPlayerIds().add(createdAdmin2.get().getPlayerId());
+        logger.info("Created second admin with ID: {}", createdAdmin2.get().getPlayerId());
     }
 
-
     @Test(description = "Admin can update other admins")
     public void testAdminCanUpdateOtherAdmins() {
         logger.info("Testing admin can update other admins");
@@ -67,26 +49,26 @@ public class PlayerAdminEditorTest extends BaseTest {
         logger.debug("First admin updating second admin age to: {}", updateData.getAge());
 
         ResponseWrapper<PlayerResponse> response = apiClient.updatePlayer(
-                createdAdmin1.getLogin(),
-                createdAdmin2.getPlayerId(),
+                createdAdmin1.get().getLogin(),
+                createdAdmin2.get().getPlayerId(),
                 updateData);
         response.expectingStatusCode( 200);
         logger.info("Successfully updated admin by another admin");
 
         // Verify the update
-        verifyPlayerFieldUpdate(createdAdmin2.getPlayerId(), "age", 40);
+        verifyPlayerFieldUpdate(createdAdmin2.get().getPlayerId(), "age", 40);
     }
 
     @Test(description = "Admin can delete other admins")
     public void testAdminCanDeleteOtherAdmins() {
         logger.info("Testing admin can delete other admins");
         // Admin1 should be able to delete Admin2
-        Response response = apiClient.deletePlayer(createdAdmin1.getLogin(), createdAdmin2.getPlayerId());
+        Response response = apiClient.deletePlayer(createdAdmin1.get().getLogin(), createdAdmin2.get().getPlayerId());
         assertEquals(response.getStatusCode(), 204, "Admin should be able to delete other admins");
         logger.info("Successfully deleted admin by another admin");
 
         // Verify admin is deleted
-        verifyPlayerDeletion(createdAdmin2.getPlayerId());
+        verifyPlayerDeletion(createdAdmin2.get().getPlayerId());
     }
 
     // ==================== HELPER METHODS ====================
@@ -99,7 +81,7 @@ public class PlayerAdminEditorTest extends BaseTest {
         assertNotNull(body, "Response body should not be null");
         Integer id = body.getPlayerId();
         assertNotNull(id, "PlayerId should not be null");
-        createdPlayerIds.add(id);
+        createdPlayerIds().add(id);
         logger.debug("Successfully created player with ID: {}", id);
         return body;
     }
@@ -1,14 +1,9 @@
 package api;
 
-import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import org.testng.asserts.SoftAssert;
@@ -16,7 +11,7 @@ import org.testng.asserts.SoftAssert;
 import api.client.ResponseWrapper;
 import api.model.request.Player;
 import api.model.response.PlayerResponse;
-import api.requests.PlayerApiClient;
+import api.scenario.PlayerScenarios;
 import base.BaseTest;
 import common.env.ConfigFactoryProvider;
 import io.qameta.allure.Step;
@@ -35,27 +30,10 @@ import util.TestDataGenerator;
 public class PlayerControllerTest extends BaseTest {
 
     private static final Logger logger = LoggerFactory.getLogger(PlayerControllerTest.class);
-    private PlayerApiClient apiClient;
-    private List<Integer> createdPlayerIds;
 
     @BeforeMethod
     public void setUp() {
         logger.info("Setting up PlayerControllerTest");
-        apiClient = new PlayerApiClient();
-        createdPlayerIds = new CopyOnWriteArrayList<>();
-    }
-
-    @AfterMethod
-    public void tearDown() {
-        logger.info("Cleaning up {} created players", createdPlayerIds.size());
-        for (Integer playerId : createdPlayerIds) {
-            try {
-                apiClient.deletePlayer(ConfigFactoryProvider.apiConfig().defaultSupervisorLogin(), playerId);
-                logger.info("Cleaned up player with ID: {}", playerId);
-            } catch (Exception e) {
-                logger.warn("Failed to clean up player with ID: {}", playerId, e);
-            }
-        }
     }
 
     // ==================== INTEGRATION WORKFLOW TESTS ====================
@@ -63,56 +41,8 @@ public class PlayerControllerTest extends BaseTest {
     @Test(description = "Complete player lifecycle: Create -> Get -> Update -> Delete")
     public void testCompletePlayerLifecycle() {
         logger.info("Testing complete player lifecycle: Create -> Get -> Update -> Delete");
-        
-        // 1. Create player
-        Player player = TestDataGenerator.generateValidPlayer();
-        logger.debug("Generated test player: {}", player);
-        PlayerResponse createdPlayer = createAndVerifyPlayer(player, ConfigFactoryProvider.apiConfig().defaultSupervisorLogin());
-        logger.info("Step 1: Created player with ID: {}", createdPlayer.getPlayerId());
-        
-        // 2. Get player and verify data
-        logger.debug("Step 2: Retrieving created player for verification");
-        ResponseWrapper<PlayerResponse> getResponse = apiClient.getPlayer(createdPlayer.getPlayerId());
-        getResponse.expectingStatusCode(200);
-        PlayerResponse retrievedPlayer = getResponse.readEntity();
-        logger.debug("Retrieved player data: {}", retrievedPlayer);
-        assertPlayerEquals(retrievedPlayer, player, new SoftAssert());
-        logger.info("Step 2: Successfully retrieved and validated player data");
-        
-        // 3. Update player
-        Player updateData = new Player();
-        updateData.setAge(30);
-        updateData.setGender("female");
-        logger.debug("Step 3: Updating player with age={}, gender={}", updateData.getAge(), updateData.getGender());
-        
-        ResponseWrapper<PlayerResponse> updateResponse = apiClient.updatePlayer(
-            ConfigFactoryProvider.apiConfig().defaultSupervisorLogin(),
-            createdPlayer.getPlayerId(), 
-            updateData
-        );
-        updateResponse.expectingStatusCode(200);
-        logger.info("Step 3: Successfully updated player");
-        
-        // 4. Verify update
-        logger.debug("Step 4: Verifying player updates");
-        ResponseWrapper<PlayerResponse> getAfterUpdateResponse = apiClient.getPlayer(createdPlayer.getPlayerId());
-        getAfterUpdateResponse.expectingStatusCode(200);
-        PlayerResponse updatedPlayer = getAfterUpdateResponse.readEntity();
-        assertEquals(updatedPlayer.getAge(), 30, "Age should be updated to 30");
-        assertEquals(updatedPlayer.getGender(), "female", "Gender should be updated to female");
-        logger.info("Step 4: Successfully verified player updates");
-        
-        // 5. Delete player
-        logger.debug("Step 5: Deleting player");
-        apiClient.deletePlayer(ConfigFactoryProvider.apiConfig().defaultSupervisorLogin(), createdPlayer.getPlayerId());
-        logger.info("Step 5: Successfully deleted player");
-        
-        // 6. Verify deletion
-        logger.debug("Step 6: Verifying player deletion");
-        ResponseWrapper<PlayerResponse> getAfterDeleteResponse = apiClient.getPlayer(createdPlayer.getPlayerId());
-        getAfterDeleteResponse.expectingStatusCode(404);
-        logger.info("Step 6: Successfully verified player deletion");
-        
+        // the same flow drives load runs with load.scenario=completePlayerLifecycle
+        PlayerScenarios.completePlayerLifecycle().runOnce(apiClient);
         logger.info("Complete player lifecycle test passed successfully");
     }
 
@@ -172,53 +102,8 @@ public class PlayerControllerTest extends BaseTest {
     @Test(description = "Data consistency workflow: Verify data integrity across operations")
     public void testDataConsistencyWorkflow() {
         logger.info("Testing data consistency workflow: Verify data integrity across operations");
-        
-        // Create a player with specific data
-        Player player = TestDataGenerator.generateValidPlayer();
-        logger.debug("Creating test player: {}", player);
-        PlayerResponse createdPlayer = createAndVerifyPlayer(player, ConfigFactoryProvider.apiConfig().defaultSupervisorLogin());
-        logger.info("Created test player with ID: {}", createdPlayer.getPlayerId());
-        
-        // Perform multiple operations and verify data consistency
-        for (int i = 0; i < 3; i++) {
-            logger.debug("Iteration {}: Testing data consistency", i + 1);
-            
-            // Get player
-            logger.debug("Retrieving player for consistency check");
-            ResponseWrapper<PlayerResponse> getResponse = apiClient.getPlayer(createdPlayer.getPlayerId());
-            getResponse.expectingStatusCode(200);
-            PlayerResponse retrievedPlayer = getResponse.readEntity();
-            logger.debug("Retrieved player data: {}", retrievedPlayer);
-            
-            // Verify core data remains consistent
-            logger.debug("Verifying core data consistency");
-            assertEquals(retrievedPlayer.getLogin(), player.getLogin(), "Login should remain consistent");
-            assertEquals(retrievedPlayer.getRole(), player.getRole(), "Role should remain consistent");
-            assertEquals(retrievedPlayer.getScreenName(), player.getScreenName(), "ScreenName should remain consistent");
-            logger.info("Iteration {}: Core data consistency verified", i + 1);
-            
-            // Update age
-            Player updateData = new Player();
-            updateData.setAge(20 + i);
-            logger.debug("Updating player age to: {}", updateData.getAge());
-            
-            ResponseWrapper<PlayerResponse> updateResponse = apiClient.updatePlayer(
-                ConfigFactoryProvider.apiConfig().defaultSupervisorLogin(),
-                createdPlayer.getPlayerId(), 
-                updateData
-            );
-            updateResponse.expectingStatusCode(200);
-            logger.info("Iteration {}: Successfully updated player age", i + 1);
-            
-            // Verify update
-            logger.debug("Verifying age update");
-            ResponseWrapper<PlayerResponse> getAfterUpdateResponse = apiClient.getPlayer(createdPlayer.getPlayerId());
-            getAfterUpdateResponse.expectingStatusCode(200);
-            PlayerResponse updatedPlayer = getAfterUpdateResponse.readEntity();
-            assertEquals(updatedPlayer.getAge(), 20 + i, "Age should be updated correctly");
-            logger.info("Iteration {}: Age update verified", i + 1);
-        }
-        
+        // the same flow drives load runs with load.scenario=dataConsistencyWorkflow
+        PlayerScenarios.dataConsistencyWorkflow().runOnce(apiClient);
         logger.info("Data consistency workflow test completed successfully");
     }
 
@@ -233,7 +118,7 @@ public class PlayerControllerTest extends BaseTest {
         assertNotNull(body, "Response body should not be null");
         Integer id = body.getPlayerId();
         assertNotNull(id, "PlayerId should not be null");
-        createdPlayerIds.add(id);
+        createdPlayerIds().add(id);
         logger.debug("Successfully created player with ID: {}", id);
         return body;
     }
@@ -3,12 +3,8 @@ package api;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import org.testng.asserts.SoftAssert;
@@ -17,7 +13,6 @@ import api.client.ResponseWrapper;
 import api.model.error.ErrorBody;
 import api.model.request.Player;
 import api.model.response.PlayerResponse;
-import api.requests.PlayerApiClient;
 import base.BaseTest;
 import common.env.ConfigFactoryProvider;
 import io.qameta.allure.Step;
@@ -30,21 +25,6 @@ public class PlayerCreateTest extends BaseTest {
     @BeforeMethod
     public void setUp() {
         logger.info("Setting up PlayerCreateTest");
-        apiClient = new PlayerApiClient();
-        createdPlayerIds = new CopyOnWriteArrayList<>();
-    }
-
-    @AfterMethod
-    public void tearDown() {
-        logger.info("Cleaning up {} created players", createdPlayerIds.size());
-        for (Integer playerId : createdPlayerIds) {
-            try {
-                apiClient.deletePlayer(ConfigFactoryProvider.apiConfig().defaultSupervisorLogin(), playerId);
-                logger.info("Cleaned up player with ID: {}", playerId);
-            } catch (Exception e) {
-                logger.warn("Failed to clean up player with ID: {}", playerId, e);
-            }
-        }
     }
 
     // ==================== VALID CREATE TESTS ====================
@@ -85,7 +65,7 @@ public class PlayerCreateTest extends BaseTest {
         ResponseWrapper<PlayerResponse> response = apiClient.createPlayer(ConfigFactoryProvider.apiConfig().defaultSupervisorLogin(), player);
         assertEquals(response.getResponse().statusCode(), 200, "Couldn't create player.");
         PlayerResponse createdPlayer = response.readEntity();
-        createdPlayerIds.add(createdPlayer.getPlayerId());
+        createdPlayerIds().add(createdPlayer.getPlayerId());
         logger.info("Successfully created admin player with ID: {}", createdPlayer.getPlayerId());
     }
 
@@ -99,7 +79,7 @@ public class PlayerCreateTest extends BaseTest {
         ResponseWrapper<PlayerResponse> response = apiClient.createPlayer(ConfigFactoryProvider.apiConfig().defaultSupervisorLogin(), player);
         assertEquals(response.getResponse().statusCode(), 200, "Couldn't create player.");
         PlayerResponse createdPlayer = response.readEntity();
-        createdPlayerIds.add(createdPlayer.getPlayerId());
+        createdPlayerIds().add(createdPlayer.getPlayerId());
         logger.info("Successfully created user player with ID: {}", createdPlayer.getPlayerId());
     }
 
@@ -259,7 +239,7 @@ public class PlayerCreateTest extends BaseTest {
         assertNotNull(body, "Response body should not be null");
         Integer id = body.getPlayerId();
         assertNotNull(id, "PlayerId should not be null");
-        createdPlayerIds.add(id);
+        createdPlayerIds().add(id);
         logger.debug("Successfully created player with ID: {}", id);
         return body;
     }
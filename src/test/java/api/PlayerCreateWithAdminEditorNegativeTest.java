@@ -4,51 +4,32 @@ import api.client.ResponseWrapper;
 import api.model.error.ErrorBody;
 import api.model.request.Player;
 import api.model.response.PlayerResponse;
-import api.requests.PlayerApiClient;
 import base.BaseTest;
 import common.env.ConfigFactoryProvider;
 import io.qameta.allure.Step;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import util.TestDataGenerator;
 
-import java.util.concurrent.CopyOnWriteArrayList;
-
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 
 public class PlayerCreateWithAdminEditorNegativeTest extends BaseTest {
     private static final Logger logger = LoggerFactory.getLogger(PlayerCreateTest.class);
-    private Player adminPlayer;
-    private PlayerResponse createdAdmin;
+    private final ThreadLocal<Player> adminPlayer = new ThreadLocal<>();
+    private final ThreadLocal<PlayerResponse> createdAdmin = new ThreadLocal<>();
 
     @BeforeMethod
     public void setUp() {
         logger.info("Setting up PlayerCreateTest");
-        apiClient = new PlayerApiClient();
-        createdPlayerIds = new CopyOnWriteArrayList<>();
-
-        adminPlayer = TestDataGenerator.generateValidPlayer("admin");
-        logger.debug("Creating admin: {}", adminPlayer);
-        createdAdmin = createAndVerifyPlayer(adminPlayer, ConfigFactoryProvider.apiConfig().defaultSupervisorLogin());
-        createdPlayerIds.add(createdAdmin.getPlayerId());
-        logger.info("Created admin with ID: {}", createdAdmin.getPlayerId());
-    }
 
-    @AfterMethod
-    public void tearDown() {
-        logger.info("Cleaning up {} created players", createdPlayerIds.size());
-        for (Integer playerId : createdPlayerIds) {
-            try {
-                apiClient.deletePlayer(ConfigFactoryProvider.apiConfig().defaultSupervisorLogin(), playerId);
-                logger.info("Cleaned up player with ID: {}", playerId);
-            } catch (Exception e) {
-                logger.warn("Failed to clean up player with ID: {}", playerId, e);
-            }
-        }
+        adminPlayer.set(TestDataGenerator.generateValidPlayer("admin"));
+        logger.debug("Creating admin: {}", adminPlayer.get());
+        createdAdmin.set(createAndVerifyPlayer(adminPlayer.get(), ConfigFactoryProvider.apiConfig().defaultSupervisorLogin()));
+        createdPlayerIds().add(createdAdmin.get().getPlayerId());
+        logger.info("Created admin with ID: {}", createdAdmin.get().getPlayerId());
     }
 
     @Test(description = "Admin cannot create supervisor")
@@ -61,7 +42,7 @@ public class PlayerCreateWithAdminEditorNegativeTest extends BaseTest {
 
         assertCreatePlayerWithAuthorizationError(
                 supervisorPlayer,
-                createdAdmin.getLogin(),
+                createdAdmin.get().getLogin(),
                 403,
                 "User can be created only with one role from the list: 'admin' or 'user'.",
                 "Wrong error title for admin creating supervisor");
@@ -77,7 +58,7 @@ public class PlayerCreateWithAdminEditorNegativeTest extends BaseTest {
         assertNotNull(body, "Response body should not be null");
         Integer id = body.getPlayerId();
         assertNotNull(id, "PlayerId should not be null");
-        createdPlayerIds.add(id);
+        createdPlayerIds().add(id);
         logger.debug("Successfully created player with ID: {}", id);
         return body;
     }
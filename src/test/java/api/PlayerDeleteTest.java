@@ -1,9 +1,6 @@
 package api;
 
 import static org.testng.Assert.assertEquals;
-import static org.testng.Assert.assertNotNull;
-
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,51 +9,51 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import api.client.ResponseWrapper;
+import api.data.PlayerFixturePool;
+import api.data.PlayerLease;
 import api.model.request.Player;
 import api.model.response.PlayerResponse;
-import api.requests.PlayerApiClient;
 import base.BaseTest;
 import common.env.ConfigFactoryProvider;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
-import util.TestDataGenerator;
 
 public class PlayerDeleteTest extends BaseTest {
 
     private static final Logger logger = LoggerFactory.getLogger(PlayerDeleteTest.class);
-    private Player playerUser, adminPlayer;
-    private PlayerResponse createdPlayerUser, createdAdmin;
+    private final ThreadLocal<Player> playerUser = new ThreadLocal<>();
+    private final ThreadLocal<Player> adminPlayer = new ThreadLocal<>();
+    private final ThreadLocal<PlayerResponse> createdPlayerUser = new ThreadLocal<>();
+    private final ThreadLocal<PlayerResponse> createdAdmin = new ThreadLocal<>();
+    private final ThreadLocal<PlayerLease> playerUserLease = new ThreadLocal<>();
+    private final ThreadLocal<PlayerLease> adminLease = new ThreadLocal<>();
 
     @BeforeMethod
     public void setUp() {
         logger.info("Setting up PlayerDeleteTest");
-        apiClient = new PlayerApiClient();
-        createdPlayerIds = new CopyOnWriteArrayList<>();
-
-        playerUser = TestDataGenerator.generateValidPlayer();
-        logger.debug("Creating test player: {}", playerUser);
-        createdPlayerUser = createAndVerifyPlayer(playerUser, ConfigFactoryProvider.apiConfig().defaultSupervisorLogin());
-        createdPlayerIds.add(createdPlayerUser.getPlayerId());
-        logger.info("Created test player with ID: {}", createdPlayerUser.getPlayerId());
-
-        adminPlayer = TestDataGenerator.generateValidPlayer("admin");
-        logger.debug("Creating admin for deletion test: {}", adminPlayer);
-        createdAdmin = createAndVerifyPlayer(adminPlayer, ConfigFactoryProvider.apiConfig().defaultSupervisorLogin());
-        createdPlayerIds.add(createdAdmin.getPlayerId());
-        logger.info("Created admin with ID: {} for deletion test", createdAdmin.getPlayerId());
+
+        playerUserLease.set(PlayerFixturePool.getInstance().lease("user"));
+        playerUser.set(playerUserLease.get().getPlayer());
+        createdPlayerUser.set(playerUserLease.get().getCreated());
+        logger.info("Leased test player with ID: {}", createdPlayerUser.get().getPlayerId());
+
+        adminLease.set(PlayerFixturePool.getInstance().lease("admin"));
+        adminPlayer.set(adminLease.get().getPlayer());
+        createdAdmin.set(adminLease.get().getCreated());
+        logger.info("Leased admin with ID: {} for deletion test", createdAdmin.get().getPlayerId());
     }
 
     @AfterMethod
     public void tearDown() {
-        logger.info("Cleaning up {} created players", createdPlayerIds.size());
-        for (Integer playerId : createdPlayerIds) {
-            try {
-                apiClient.deletePlayer(ConfigFactoryProvider.apiConfig().defaultSupervisorLogin(), playerId);
-                logger.info("Cleaned up player with ID: {}", playerId);
-            } catch (Exception e) {
-                logger.warn("Failed to clean up player with ID: {}", playerId, e);
+        // Deleted fixtures must not be recycled; both are discarded and re-provisioned
+        for (PlayerLease lease : new PlayerLease[]{playerUserLease.get(), adminLease.get()}) {
+            if (lease != null) {
+                lease.markMutated();
+                PlayerFixturePool.getInstance().release(lease);
             }
         }
+        playerUserLease.remove();
+        adminLease.remove();
     }
 
     // ==================== DELETE PLAYER TESTS ====================
@@ -64,35 +61,35 @@ public class PlayerDeleteTest extends BaseTest {
     @Test(description = "Delete player with supervisor")
     public void testDeletePlayerWithSupervisor() {
         logger.info("Testing delete player with supervisor");
-        Response response = apiClient.deletePlayer(ConfigFactoryProvider.apiConfig().defaultSupervisorLogin(), createdPlayerUser.getPlayerId());
+        Response response = apiClient.deletePlayer(ConfigFactoryProvider.apiConfig().defaultSupervisorLogin(), createdPlayerUser.get().getPlayerId());
         assertEquals(response.getStatusCode(), 204, "Expected status code 204 for successful deletion");
         logger.info("Successfully deleted player with supervisor");
 
         // Verify player is deleted
-        verifyPlayerDeletion(createdPlayerUser.getPlayerId());
+        verifyPlayerDeletion(createdPlayerUser.get().getPlayerId());
     }
 
     @Test(description = "Delete player with admin")
     public void testDeletePlayerWithAdmin() {
         logger.info("Testing delete player with admin");
-        Response response = apiClient.deletePlayer(ConfigFactoryProvider.apiConfig().defaultAdminLogin(), createdPlayerUser.getPlayerId());
+        Response response = apiClient.deletePlayer(ConfigFactoryProvider.apiConfig().defaultAdminLogin(), createdPlayerUser.get().getPlayerId());
         assertEquals(response.getStatusCode(), 204, "Expected status code 204 for successful deletion");
         logger.info("Successfully deleted player with admin");
 
         // Verify player is deleted
-        verifyPlayerDeletion(createdPlayerUser.getPlayerId());
+        verifyPlayerDeletion(createdPlayerUser.get().getPlayerId());
     }
 
     @Test(description = "Delete admin by supervisor")
     public void testDeleteAdminBySupervisor() {
         logger.info("Testing delete admin by supervisor");
         // Supervisor should be able to delete admin
-        Response response = apiClient.deletePlayer(ConfigFactoryProvider.apiConfig().defaultSupervisorLogin(), createdAdmin.getPlayerId());
+        Response response = apiClient.deletePlayer(ConfigFactoryProvider.apiConfig().defaultSupervisorLogin(), createdAdmin.get().getPlayerId());
         assertEquals(response.getStatusCode(), 204, "Supervisor should be able to delete admin");
         logger.info("Successfully deleted admin by supervisor");
 
         // Verify admin is deleted
-        verifyPlayerDeletion(createdAdmin.getPlayerId());
+        verifyPlayerDeletion(createdAdmin.get().getPlayerId());
     }
 
     // ==================== AUTHORIZATION TESTS ====================
@@ -108,7 +105,7 @@ public class PlayerDeleteTest extends BaseTest {
     @Test(description = "Delete player with non-existent editor")
     public void testDeletePlayerWithNonExistentEditor() {
         logger.info("Testing delete player with non-existent editor");
-        Response response = apiClient.deletePlayer("nonexistent_editor", createdPlayerUser.getPlayerId());
+        Response response = apiClient.deletePlayer("nonexistent_editor", createdPlayerUser.get().getPlayerId());
         assertEquals(response.getStatusCode(), 403, "Status code should be 403 when deleting with non-existent editor");
         logger.info("Successfully confirmed 403 status for non-existent editor deletion");
     }
@@ -126,7 +123,7 @@ public class PlayerDeleteTest extends BaseTest {
     public void testDeleteAdminByAdmin() {
         logger.info("Testing delete admin by admin (self-deletion)");
         // Try to delete admin by himself
-        Response response = apiClient.deletePlayer(createdAdmin.getLogin(), createdAdmin.getPlayerId());
+        Response response = apiClient.deletePlayer(createdAdmin.get().getLogin(), createdAdmin.get().getPlayerId());
         assertEquals(response.getStatusCode(), 403, "Status code should be 403 when admin tries to delete himself");
         logger.info("Successfully confirmed 403 status for admin self-deletion");
     }
@@ -135,7 +132,7 @@ public class PlayerDeleteTest extends BaseTest {
     public void testDeleteUserByUser() {
         logger.info("Testing delete user by user (self-deletion)");
         // Try to delete user by himself
-        Response response = apiClient.deletePlayer(playerUser.getLogin(), createdPlayerUser.getPlayerId());
+        Response response = apiClient.deletePlayer(playerUser.get().getLogin(), createdPlayerUser.get().getPlayerId());
         assertEquals(response.getStatusCode(), 403, "Status code should be 403 when user tries to delete himself");
         logger.info("Successfully confirmed 403 status for user self-deletion");
     }
@@ -144,7 +141,7 @@ public class PlayerDeleteTest extends BaseTest {
     public void testUserCannotDeleteAdmin() {
         logger.info("Testing user cannot delete admin");
         // Try to delete admin using user as editor
-        Response response = apiClient.deletePlayer(playerUser.getLogin(), createdAdmin.getPlayerId());
+        Response response = apiClient.deletePlayer(playerUser.get().getLogin(), createdAdmin.get().getPlayerId());
         assertEquals(response.getStatusCode(), 403, "Status code should be 403 when user tries to delete admin");
         logger.info("Successfully confirmed 403 status for user deleting admin");
     }
@@ -153,12 +150,12 @@ public class PlayerDeleteTest extends BaseTest {
     public void testAdminCanDeleteOtherUsers() {
         logger.info("Testing admin can delete other users");
         // Admin should be able to delete the user
-        Response response = apiClient.deletePlayer(createdAdmin.getLogin(), createdPlayerUser.getPlayerId());
+        Response response = apiClient.deletePlayer(createdAdmin.get().getLogin(), createdPlayerUser.get().getPlayerId());
         assertEquals(response.getStatusCode(), 204, "Admin should be able to delete other users");
         logger.info("Successfully deleted user by admin");
 
         // Verify user is deleted
-        verifyPlayerDeletion(createdPlayerUser.getPlayerId());
+        verifyPlayerDeletion(createdPlayerUser.get().getPlayerId());
     }
 
     @Test(description = "Delete player with boundary ID values")
@@ -178,20 +175,6 @@ public class PlayerDeleteTest extends BaseTest {
         logger.info("Successfully confirmed 404 status for negative player ID deletion");
     }
 
-    @Step("Create and verify player as {editor}")
-    private PlayerResponse createAndVerifyPlayer(Player player, String editor) {
-        logger.debug("Creating player as editor: {}", editor);
-        ResponseWrapper<PlayerResponse> response = apiClient.createPlayer(editor, player);
-        response.expectingStatusCode(200);
-        PlayerResponse body = response.readEntity();
-        assertNotNull(body, "Response body should not be null");
-        Integer id = body.getPlayerId();
-        assertNotNull(id, "PlayerId should not be null");
-        createdPlayerIds.add(id);
-        logger.debug("Successfully created player with ID: {}", id);
-        return body;
-    }
-
     // ==================== HELPER METHODS ====================
 
     @Step("Verify player deletion - playerId: {playerId}")
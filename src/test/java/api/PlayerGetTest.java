@@ -1,13 +1,13 @@
 package api;
 
 import api.client.ResponseWrapper;
+import api.data.PlayerFixturePool;
+import api.data.PlayerLease;
 import api.model.error.ErrorBody;
 import api.model.request.Player;
 import api.model.response.PlayerResponse;
 import api.model.response.PlayersResponse;
-import api.requests.PlayerApiClient;
 import base.BaseTest;
-import common.env.ConfigFactoryProvider;
 import io.qameta.allure.Step;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,9 +15,6 @@ import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import org.testng.asserts.SoftAssert;
-import util.TestDataGenerator;
-
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInClasspath;
 import static org.testng.Assert.assertEquals;
@@ -26,33 +23,25 @@ import static org.testng.Assert.assertNotNull;
 public class PlayerGetTest extends BaseTest {
 
     private static final Logger logger = LoggerFactory.getLogger(PlayerGetTest.class);
-    private Player player;
-    private PlayerResponse createdPlayer;
+    private final ThreadLocal<Player> player = new ThreadLocal<>();
+    private final ThreadLocal<PlayerResponse> createdPlayer = new ThreadLocal<>();
+    private final ThreadLocal<PlayerLease> playerLease = new ThreadLocal<>();
 
     @BeforeMethod
     public void setUp() {
         logger.info("Setting up PlayerGetTest");
-        apiClient = new PlayerApiClient();
-        createdPlayerIds = new CopyOnWriteArrayList<>();
-
-        player = TestDataGenerator.generateValidPlayer();
-        logger.debug("Creating test player: {}", player);
-        createdPlayer = createAndVerifyPlayer(player, ConfigFactoryProvider.apiConfig().defaultSupervisorLogin());
-        createdPlayerIds.add(createdPlayer.getPlayerId());
-        logger.info("Created test player with ID: {}", createdPlayer.getPlayerId());
+
+        // Tests here only read the player, so the fixture goes back to the pool afterwards
+        playerLease.set(PlayerFixturePool.getInstance().lease("user"));
+        player.set(playerLease.get().getPlayer());
+        createdPlayer.set(playerLease.get().getCreated());
+        logger.info("Leased test player with ID: {}", createdPlayer.get().getPlayerId());
     }
 
     @AfterMethod
     public void tearDown() {
-        logger.info("Cleaning up {} created players", createdPlayerIds.size());
-        for (Integer playerId : createdPlayerIds) {
-            try {
-                apiClient.deletePlayer(ConfigFactoryProvider.apiConfig().defaultSupervisorLogin(), playerId);
-                logger.info("Cleaned up player with ID: {}", playerId);
-            } catch (Exception e) {
-                logger.warn("Failed to clean up player with ID: {}", playerId, e);
-            }
-        }
+        PlayerFixturePool.getInstance().release(playerLease.get());
+        playerLease.remove();
     }
 
     // ==================== GET PLAYER TESTS ====================
@@ -92,19 +81,19 @@ public class PlayerGetTest extends BaseTest {
         logger.info("Testing get player after creation with field verification");
         // Get the player and verify all fields
         logger.debug("Retrieving created player for field verification");
-        ResponseWrapper<PlayerResponse> response = apiClient.getPlayer(createdPlayer.getPlayerId());
+        ResponseWrapper<PlayerResponse> response = apiClient.getPlayer(createdPlayer.get().getPlayerId());
         response.expectingStatusCode(200);
         PlayerResponse retrievedPlayer = response.readEntity();
         logger.debug("Retrieved player data: {}", retrievedPlayer);
 
         SoftAssert softAssert = new SoftAssert();
-        softAssert.assertEquals(retrievedPlayer.getPlayerId(), createdPlayer.getPlayerId(), "Player ID should match");
-        softAssert.assertEquals(retrievedPlayer.getAge(), player.getAge(), "Age should match");
-        softAssert.assertEquals(retrievedPlayer.getGender(), player.getGender(), "Gender should match");
-        softAssert.assertEquals(retrievedPlayer.getLogin(), player.getLogin(), "Login should match");
-        softAssert.assertEquals(retrievedPlayer.getPassword(), player.getPassword(), "Password should match");
-        softAssert.assertEquals(retrievedPlayer.getRole(), player.getRole(), "Role should match");
-        softAssert.assertEquals(retrievedPlayer.getScreenName(), player.getScreenName(), "ScreenName should match");
+        softAssert.assertEquals(retrievedPlayer.getPlayerId(), createdPlayer.get().getPlayerId(), "Player ID should match");
+        softAssert.assertEquals(retrievedPlayer.getAge(), player.get().getAge(), "Age should match");
+        softAssert.assertEquals(retrievedPlayer.getGender(), player.get().getGender(), "Gender should match");
+        softAssert.assertEquals(retrievedPlayer.getLogin(), player.get().getLogin(), "Login should match");
+        softAssert.assertEquals(retrievedPlayer.getPassword(), player.get().getPassword(), "Password should match");
+        softAssert.assertEquals(retrievedPlayer.getRole(), player.get().getRole(), "Role should match");
+        softAssert.assertEquals(retrievedPlayer.getScreenName(), player.get().getScreenName(), "ScreenName should match");
         softAssert.assertAll();
         logger.info("Successfully verified all player fields after creation");
     }
@@ -134,20 +123,6 @@ public class PlayerGetTest extends BaseTest {
 
     // ==================== HELPER METHODS ====================
 
-    @Step("Create and verify player as {editor}")
-    private PlayerResponse createAndVerifyPlayer(Player player, String editor) {
-        logger.debug("Creating player as editor: {}", editor);
-        ResponseWrapper<PlayerResponse> response = apiClient.createPlayer(editor, player);
-        response.expectingStatusCode(200);
-        PlayerResponse body = response.readEntity();
-        assertNotNull(body, "Response body should not be null");
-        Integer id = body.getPlayerId();
-        assertNotNull(id, "PlayerId should not be null");
-        createdPlayerIds.add(id);
-        logger.debug("Successfully created player with ID: {}", id);
-        return body;
-    }
-
     @Step("Assert player equals expected values")
     private void assertPlayerEquals(PlayerResponse actual, Player expected, SoftAssert sa) {
         logger.debug("Asserting player data matches expected values");
@@ -1,10 +1,11 @@
 package api;
 
 import api.client.ResponseWrapper;
+import api.data.PlayerFixturePool;
+import api.data.PlayerLease;
 import api.model.error.ErrorBody;
 import api.model.request.Player;
 import api.model.response.PlayerResponse;
-import api.requests.PlayerApiClient;
 import base.BaseTest;
 import common.env.ConfigFactoryProvider;
 import io.qameta.allure.Step;
@@ -15,41 +16,33 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import util.TestDataGenerator;
 
-import java.util.concurrent.CopyOnWriteArrayList;
-
 import static org.testng.Assert.assertEquals;
-import static org.testng.Assert.assertNotNull;
 
 public class PlayerUpdateTest extends BaseTest {
 
     private static final Logger logger = LoggerFactory.getLogger(PlayerUpdateTest.class);
-    private Player playerUser;
-    private PlayerResponse createdPlayerUser;
+    private final ThreadLocal<Player> playerUser = new ThreadLocal<>();
+    private final ThreadLocal<PlayerResponse> createdPlayerUser = new ThreadLocal<>();
+    private final ThreadLocal<PlayerLease> playerUserLease = new ThreadLocal<>();
 
     @BeforeMethod
     public void setUp() {
         logger.info("Setting up PlayerUpdateTest");
-        apiClient = new PlayerApiClient();
-        createdPlayerIds = new CopyOnWriteArrayList<>();
-
-        playerUser = TestDataGenerator.generateValidPlayer();
-        logger.debug("Creating test player: {}", playerUser);
-        createdPlayerUser = createAndVerifyPlayer(playerUser, ConfigFactoryProvider.apiConfig().defaultSupervisorLogin());
-        createdPlayerIds.add(createdPlayerUser.getPlayerId());
-        logger.info("Created test player with ID: {}", createdPlayerUser.getPlayerId());
+
+        playerUserLease.set(PlayerFixturePool.getInstance().lease("user"));
+        playerUser.set(playerUserLease.get().getPlayer());
+        createdPlayerUser.set(playerUserLease.get().getCreated());
+        logger.info("Leased test player with ID: {}", createdPlayerUser.get().getPlayerId());
     }
 
     @AfterMethod
     public void tearDown() {
-        logger.info("Cleaning up {} created players", createdPlayerIds.size());
-        for (Integer playerId : createdPlayerIds) {
-            try {
-                apiClient.deletePlayer(ConfigFactoryProvider.apiConfig().defaultSupervisorLogin(), playerId);
-                logger.info("Cleaned up player with ID: {}", playerId);
-            } catch (Exception e) {
-                logger.warn("Failed to clean up player with ID: {}", playerId, e);
-            }
+        // Every test here may change the player, so it is never handed to another test
+        if (playerUserLease.get() != null) {
+            playerUserLease.get().markMutated();
         }
+        PlayerFixturePool.getInstance().release(playerUserLease.get());
+        playerUserLease.remove();
     }
 
     // ==================== UPDATE PLAYER TESTS ====================
@@ -63,12 +56,12 @@ public class PlayerUpdateTest extends BaseTest {
 
         ResponseWrapper<PlayerResponse> response = apiClient.updatePlayer(
                 ConfigFactoryProvider.apiConfig().defaultSupervisorLogin(),
-                createdPlayerUser.getPlayerId(), updateData);
+                createdPlayerUser.get().getPlayerId(), updateData);
         response.expectingStatusCode(200);
         logger.info("Successfully updated player age");
 
         // Verify the update
-        verifyPlayerFieldUpdate(createdPlayerUser.getPlayerId(), "age", 30);
+        verifyPlayerFieldUpdate(createdPlayerUser.get().getPlayerId(), "age", 30);
     }
 
     @Test(description = "Update player gender")
@@ -80,12 +73,12 @@ public class PlayerUpdateTest extends BaseTest {
 
         ResponseWrapper<PlayerResponse> response = apiClient.updatePlayer(
                 ConfigFactoryProvider.apiConfig().defaultSupervisorLogin(),
-                createdPlayerUser.getPlayerId(), updateData);
+                createdPlayerUser.get().getPlayerId(), updateData);
         response.expectingStatusCode(200);
         logger.info("Successfully updated player gender");
 
         // Verify the update
-        verifyPlayerFieldUpdate(createdPlayerUser.getPlayerId(), "gender", "female");
+        verifyPlayerFieldUpdate(createdPlayerUser.get().getPlayerId(), "gender", "female");
     }
 
     @Test(description = "Update player login")
@@ -96,12 +89,12 @@ public class PlayerUpdateTest extends BaseTest {
 
         ResponseWrapper<PlayerResponse> response = apiClient.updatePlayer(
                 ConfigFactoryProvider.apiConfig().defaultSupervisorLogin(),
-                createdPlayerUser.getPlayerId(), updateData);
+                createdPlayerUser.get().getPlayerId(), updateData);
         response.expectingStatusCode(200);
         logger.info("Successfully updated player login");
 
         // Verify the update
-        verifyPlayerFieldUpdate(createdPlayerUser.getPlayerId(), "login", updateData.getLogin());
+        verifyPlayerFieldUpdate(createdPlayerUser.get().getPlayerId(), "login", updateData.getLogin());
     }
 
     @Test(description = "Update player screenName")
@@ -111,12 +104,12 @@ public class PlayerUpdateTest extends BaseTest {
         logger.debug("Updating player screenName to: {}", updateData.getScreenName());
         ResponseWrapper<PlayerResponse> response = apiClient.updatePlayer(
                 ConfigFactoryProvider.apiConfig().defaultSupervisorLogin(),
-                createdPlayerUser.getPlayerId(), updateData);
+                createdPlayerUser.get().getPlayerId(), updateData);
         response.expectingStatusCode(200);
         logger.info("Successfully updated player screenName");
 
         // Verify the update
-        verifyPlayerFieldUpdate(createdPlayerUser.getPlayerId(), "screenName", updateData.getScreenName());
+        verifyPlayerFieldUpdate(createdPlayerUser.get().getPlayerId(), "screenName", updateData.getScreenName());
     }
 
     @Test(description = "Update player password")
@@ -126,12 +119,12 @@ public class PlayerUpdateTest extends BaseTest {
         logger.debug("Updating player password to: {}", updateData.getPassword());
         ResponseWrapper<PlayerResponse> response = apiClient.updatePlayer(
                 ConfigFactoryProvider.apiConfig().defaultSupervisorLogin(),
-                createdPlayerUser.getPlayerId(), updateData);
+                createdPlayerUser.get().getPlayerId(), updateData);
         response.expectingStatusCode(200);
         logger.info("Successfully updated player password");
 
         // Verify the update
-        verifyPlayerFieldUpdate(createdPlayerUser.getPlayerId(), "password", updateData.getPassword());
+        verifyPlayerFieldUpdate(createdPlayerUser.get().getPlayerId(), "password", updateData.getPassword());
     }
 
     @Test(description = "Update multiple fields at once")
@@ -145,12 +138,12 @@ public class PlayerUpdateTest extends BaseTest {
 
         ResponseWrapper<PlayerResponse> response = apiClient.updatePlayer(
                 ConfigFactoryProvider.apiConfig().defaultSupervisorLogin(),
-                createdPlayerUser.getPlayerId(), updateData);
+                createdPlayerUser.get().getPlayerId(), updateData);
         response.expectingStatusCode(200);
         logger.info("Successfully updated multiple fields");
 
         // Verify the updates
-        ResponseWrapper<PlayerResponse> getResponse = apiClient.getPlayer(createdPlayerUser.getPlayerId());
+        ResponseWrapper<PlayerResponse> getResponse = apiClient.getPlayer(createdPlayerUser.get().getPlayerId());
         getResponse.expectingStatusCode(200);
         assertEquals(response.getResponse().statusCode(), 200, "User not found.");
         PlayerResponse updatedPlayer = getResponse.readEntity();
@@ -169,7 +162,7 @@ public class PlayerUpdateTest extends BaseTest {
         updateData.setAge(15); // Too young
         logger.debug("Attempting to update player age to invalid value: {}", updateData.getAge());
 
-        assertUpdatePlayerWithValidationError(createdPlayerUser.getPlayerId(), updateData, 403, "User should be older than 16 and younger than 60 years old.", "Wrong error title for invalid age on update");
+        assertUpdatePlayerWithValidationError(createdPlayerUser.get().getPlayerId(), updateData, 403, "User should be older than 16 and younger than 60 years old.", "Wrong error title for invalid age on update");
     }
 
     @Test(description = "Update player with invalid gender")
@@ -179,7 +172,7 @@ public class PlayerUpdateTest extends BaseTest {
         updateData.setGender("invalid_gender");
         logger.debug("Attempting to update player gender to invalid value: {}", updateData.getGender());
 
-        assertUpdatePlayerWithValidationError(createdPlayerUser.getPlayerId(), updateData, 400, "Gender can be male/female.", "Wrong error title for invalid gender on update");
+        assertUpdatePlayerWithValidationError(createdPlayerUser.get().getPlayerId(), updateData, 400, "Gender can be male/female.", "Wrong error title for invalid gender on update");
     }
 
     @Test(description = "Update player with invalid password")
@@ -189,7 +182,7 @@ public class PlayerUpdateTest extends BaseTest {
         updateData.setPassword("short"); // Too short
         logger.debug("Attempting to update player password to invalid value: {}", updateData.getPassword());
 
-        assertUpdatePlayerWithValidationError(createdPlayerUser.getPlayerId(), updateData, 400, "Password must contain latin letters and numbers (min 7 max 15 characters).", "Wrong error title for invalid password on update");
+        assertUpdatePlayerWithValidationError(createdPlayerUser.get().getPlayerId(), updateData, 400, "Password must contain latin letters and numbers (min 7 max 15 characters).", "Wrong error title for invalid password on update");
     }
 
     // ==================== AUTHORIZATION TESTS ====================
@@ -211,7 +204,7 @@ public class PlayerUpdateTest extends BaseTest {
         updateData.setAge(25);
         logger.debug("Attempting to update player with non-existent editor");
 
-        assertUpdatePlayerWithAuthorizationError(createdPlayerUser.getPlayerId(), updateData, "nonexistent_editor", 403, "Non-existent editor.", "Wrong error title for non-existent editor on update");
+        assertUpdatePlayerWithAuthorizationError(createdPlayerUser.get().getPlayerId(), updateData, "nonexistent_editor", 403, "Non-existent editor.", "Wrong error title for non-existent editor on update");
     }
 
     @Test(description = "User can update their own profile")
@@ -224,12 +217,12 @@ public class PlayerUpdateTest extends BaseTest {
         logger.debug("User updating their own age to: {}", updateData.getAge());
 
         ResponseWrapper<PlayerResponse> response = apiClient.updatePlayer(
-                createdPlayerUser.getLogin(), createdPlayerUser.getPlayerId(), updateData);
+                createdPlayerUser.get().getLogin(), createdPlayerUser.get().getPlayerId(), updateData);
         response.expectingStatusCode(200);
         logger.info("Successfully updated user's own profile");
 
         // Verify the update
-        verifyPlayerFieldUpdate(createdPlayerUser.getPlayerId(), "age", 30);
+        verifyPlayerFieldUpdate(createdPlayerUser.get().getPlayerId(), "age", 30);
     }
 
     @Test(description = "Update player with admin editor")
@@ -241,30 +234,16 @@ public class PlayerUpdateTest extends BaseTest {
 
         ResponseWrapper<PlayerResponse> response = apiClient.updatePlayer(
                 ConfigFactoryProvider.apiConfig().defaultAdminLogin(),
-                createdPlayerUser.getPlayerId(), updateData);
+                createdPlayerUser.get().getPlayerId(), updateData);
         response.expectingStatusCode(200);
         logger.info("Successfully updated player using admin editor");
 
         // Verify the update
-        verifyPlayerFieldUpdate(createdPlayerUser.getPlayerId(), "age", 40);
+        verifyPlayerFieldUpdate(createdPlayerUser.get().getPlayerId(), "age", 40);
     }
 
     // ==================== HELPER METHODS ====================
 
-    @Step("Create and verify player as {editor}")
-    private PlayerResponse createAndVerifyPlayer(Player player, String editor) {
-        logger.debug("Creating player as editor: {}", editor);
-        ResponseWrapper<PlayerResponse> response = apiClient.createPlayer(editor, player);
-        assertEquals(response.getResponse().statusCode(), 200, "User should be created.");
-        PlayerResponse body = response.readEntity();
-        assertNotNull(body, "Response body should not be null");
-        Integer id = body.getPlayerId();
-        assertNotNull(id, "PlayerId should not be null");
-        createdPlayerIds.add(id);
-        logger.debug("Successfully created player with ID: {}", id);
-        return body;
-    }
-
     @Step("Verify player field update - field: {fieldName}, expected value: {expectedValue}")
     private void verifyPlayerFieldUpdate(Integer playerId, String fieldName, Object expectedValue) {
         logger.debug("Verifying field update: {} = {}", fieldName, expectedValue);
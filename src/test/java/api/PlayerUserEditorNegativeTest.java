@@ -4,61 +4,44 @@ import api.client.ResponseWrapper;
 import api.model.error.ErrorBody;
 import api.model.request.Player;
 import api.model.response.PlayerResponse;
-import api.requests.PlayerApiClient;
 import base.BaseTest;
 import common.env.ConfigFactoryProvider;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import util.TestDataGenerator;
 
-import java.util.concurrent.CopyOnWriteArrayList;
-
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 
 public class PlayerUserEditorNegativeTest extends BaseTest {
 
     private static final Logger logger = LoggerFactory.getLogger(PlayerUpdateTest.class);
-    private Player userPlayer, targetPlayer;
-    private PlayerResponse createdUser, createdTarget;
+    private final ThreadLocal<Player> userPlayer = new ThreadLocal<>();
+    private final ThreadLocal<Player> targetPlayer = new ThreadLocal<>();
+    private final ThreadLocal<PlayerResponse> createdUser = new ThreadLocal<>();
+    private final ThreadLocal<PlayerResponse> createdTarget = new ThreadLocal<>();
 
     @BeforeMethod
     public void setUp() {
         logger.info("Setting up PlayerUpdateTest");
-        apiClient = new PlayerApiClient();
-        createdPlayerIds = new CopyOnWriteArrayList<>();
-
-        userPlayer = TestDataGenerator.generateValidPlayer();
-        logger.debug("Creating test player: {}", userPlayer);
-        createdUser = createAndVerifyPlayer(userPlayer,
-                ConfigFactoryProvider.apiConfig().defaultSupervisorLogin());
-        createdPlayerIds.add(createdUser.getPlayerId());
-        logger.info("Created test player with ID: {}", createdUser.getPlayerId());
 
-        targetPlayer = TestDataGenerator.generateValidPlayer();
-        logger.debug("Creating target player: {}", targetPlayer);
-        createdTarget = createAndVerifyPlayer(targetPlayer,
-                ConfigFactoryProvider.apiConfig().defaultSupervisorLogin());
-        createdPlayerIds.add(createdTarget.getPlayerId());
-        logger.info("Created target player with ID: {}", createdTarget.getPlayerId());
-    }
+        userPlayer.set(TestDataGenerator.generateValidPlayer());
+        logger.debug("Creating test player: {}", userPlayer.get());
+        createdUser.set(createAndVerifyPlayer(userPlayer.get(),
+                ConfigFactoryProvider.apiConfig().defaultSupervisorLogin()));
+        createdPlayerIds().add(createdUser.get().getPlayerId());
+        logger.info("Created test player with ID: {}", createdUser.get().getPlayerId());
 
-    @AfterMethod
-    public void tearDown() {
-        logger.info("Cleaning up {} created players", createdPlayerIds.size());
-        for (Integer playerId : createdPlayerIds) {
-            try {
-                apiClient.deletePlayer(ConfigFactoryProvider.apiConfig().defaultSupervisorLogin(), playerId);
-                logger.info("Cleaned up player with ID: {}", playerId);
-            } catch (Exception e) {
-                logger.warn("Failed to clean up player with ID: {}", playerId, e);
-            }
-        }
+        targetPlayer.set(TestDataGenerator.generateValidPlayer());
+        logger.debug("Creating target player: {}", targetPlayer.get());
+        createdTarget.set(createAndVerifyPlayer(targetPlayer.get(),
+                ConfigFactoryProvider.apiConfig().defaultSupervisorLogin()));
+        createdPlayerIds().add(createdTarget.get().getPlayerId());
+        logger.info("Created target player with ID: {}", createdTarget.get().getPlayerId());
     }
 
     @Test(description = "Update player with user editor (unauthorized)")
@@ -69,9 +52,9 @@ public class PlayerUserEditorNegativeTest extends BaseTest {
         updateData.setAge(25);
         logger.debug("Attempting to update target player with user editor");
 
-        assertUpdatePlayerWithAuthorizationError(createdTarget.getPlayerId(),
+        assertUpdatePlayerWithAuthorizationError(createdTarget.get().getPlayerId(),
                 updateData,
-                createdUser.getLogin(),
+                createdUser.get().getLogin(),
                 403,
                 "Only those with role 'supervisor' or 'admin' can update users.",
                 "Wrong error title for user editor update");
@@ -80,7 +63,7 @@ public class PlayerUserEditorNegativeTest extends BaseTest {
     @Test(description = "User cannot delete other users")
     public void testUserCannotDeleteOtherUsers() {
         logger.info("Testing user cannot delete other users");
-        Response response = apiClient.deletePlayer(createdUser.getLogin(), createdTarget.getPlayerId());
+        Response response = apiClient.deletePlayer(createdUser.get().getLogin(), createdTarget.get().getPlayerId());
         assertEquals(response.getStatusCode(), 403, "Status code should be 403 when user tries to delete another user");
         logger.info("Successfully confirmed 403 status for user deleting another user");
     }
@@ -95,7 +78,7 @@ public class PlayerUserEditorNegativeTest extends BaseTest {
         assertNotNull(body, "Response body should not be null");
         Integer id = body.getPlayerId();
         assertNotNull(id, "PlayerId should not be null");
-        createdPlayerIds.add(id);
+        createdPlayerIds().add(id);
         logger.debug("Successfully created player with ID: {}", id);
         return body;
     }
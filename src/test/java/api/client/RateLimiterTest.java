@@ -0,0 +1,85 @@
+package api.client;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import common.env.APIConfig;
+import org.aeonbits.owner.ConfigFactory;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class RateLimiterTest {
+
+    private static final ApiRequest GET_ALL = new ApiRequest("GET", "/player/get/all", null, null, null);
+    private static final ApiRequest GET = new ApiRequest("POST", "/player/get", null, null, null);
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    // slack for the time that passes between two reservations in the same test
+    private static final long TOLERANCE = TimeUnit.MILLISECONDS.toNanos(200);
+
+    @Test(description = "A full bucket hands out its burst without waiting, then tryAcquire fails")
+    public void testTryAcquireOnEmptyBucket() {
+        RateLimiter limiter = limiter(Map.of("http.rate.limit.rps", "1", "http.rate.limit.burst", "3"));
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire(GET_ALL), "Permit " + i + " is part of the burst");
+        }
+        assertFalse(limiter.tryAcquire(GET_ALL));
+        assertFalse(limiter.tryAcquire(GET_ALL));
+        assertEquals(limiter.refusedByEndpoint(), Map.of("/player/get/all", 2L));
+        assertTrue(limiter.waitsByEndpoint().isEmpty(), "A refused permit is not a wait");
+    }
+
+    @Test(description = "Reservations past the burst queue one refill interval apart")
+    public void testReservationsQueue() {
+        RateLimiter limiter = limiter(Map.of("http.rate.limit.rps", "1", "http.rate.limit.burst", "2"));
+        assertEquals(limiter.reserve(GET_ALL, 0), 0L);
+        assertEquals(limiter.reserve(GET_ALL, 0), 0L);
+        assertAbout(limiter.reserve(GET_ALL, 5000), SECOND);
+        assertAbout(limiter.reserve(GET_ALL, 5000), 2 * SECOND);
+        assertEquals(limiter.waitsByEndpoint(), Map.of("/player/get/all", 2L));
+        long waited = limiter.waitMillisByEndpoint().get("/player/get/all");
+        assertTrue(Math.abs(waited - 3000) <= 400, "Accumulated wait " + waited + " ms, expected about 3000 ms");
+    }
+
+    @Test(description = "A reservation that would wait longer than allowed is refused and books nothing")
+    public void testReservationRefusedBeyondMaxWait() {
+        RateLimiter limiter = limiter(Map.of("http.rate.limit.rps", "1", "http.rate.limit.burst", "1"));
+        assertEquals(limiter.reserve(GET_ALL, 0), 0L);
+        assertEquals(limiter.reserve(GET_ALL, 500), -1L);
+        assertEquals(limiter.refusedByEndpoint(), Map.of("/player/get/all", 1L));
+        assertAbout(limiter.reserve(GET_ALL, 5000), SECOND);
+    }
+
+    @Test(description = "The bucket refills at the configured rate")
+    public void testRefill() throws InterruptedException {
+        RateLimiter limiter = limiter(Map.of("http.rate.limit.rps", "20", "http.rate.limit.burst", "1"));
+        assertTrue(limiter.tryAcquire(GET_ALL));
+        assertFalse(limiter.tryAcquire(GET_ALL));
+        TimeUnit.MILLISECONDS.sleep(80);
+        assertTrue(limiter.tryAcquire(GET_ALL), "A permit is back 50 ms after the last one");
+        assertTrue(limiter.acquire(GET_ALL, 1000), "acquire waits out the refill");
+    }
+
+    @Test(description = "Endpoints have separate buckets and a zero rate leaves an endpoint unlimited")
+    public void testPerEndpointRates() {
+        RateLimiter limiter = limiter(Map.of("http.rate.limit.rps", "0", "http.rate.limit.burst", "1",
+                "http.rate.limit.player.get.all.rps", "1"));
+        assertTrue(limiter.tryAcquire(GET_ALL));
+        assertFalse(limiter.tryAcquire(GET_ALL));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(limiter.reserve(GET, 0), 0L, "The default rate of 0 is unlimited");
+        }
+        assertEquals(limiter.refusedByEndpoint(), Map.of("/player/get/all", 1L));
+    }
+
+    private static void assertAbout(long actualNanos, long expectedNanos) {
+        assertTrue(actualNanos <= expectedNanos && actualNanos > expectedNanos - TOLERANCE,
+                "Waited " + actualNanos + " ns, expected just under " + expectedNanos + " ns");
+    }
+
+    private static RateLimiter limiter(Map<String, String> overrides) {
+        return new RateLimiter(ConfigFactory.create(APIConfig.class, overrides));
+    }
+}
@@ -0,0 +1,97 @@
+package api.client;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import common.env.AppConfig;
+import org.aeonbits.owner.ConfigFactory;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+
+public class RetryPolicyTest {
+
+    private static final ApiRequest GET_ALL = new ApiRequest("GET", "/player/get/all", null, null, null);
+
+    @Test(description = "Retries stop once the budget is spent and the refusals are counted")
+    public void testBudgetExhaustion() {
+        RetryPolicy policy = policy(Map.of("test.retry.count", "100", "test.retry.budget.max", "3"));
+        for (int retry = 0; retry < 3; retry++) {
+            assertTrue(policy.shouldRetry(GET_ALL, 503, retry), "Retry " + retry + " is within the budget");
+        }
+        assertFalse(policy.shouldRetry(GET_ALL, 503, 3));
+        assertFalse(policy.shouldRetry(GET_ALL, new IOException("reset"), 0));
+        assertEquals(policy.retriesByEndpoint(), Map.of("/player/get/all", 3L));
+        assertEquals(policy.deniedByEndpoint(), Map.of("/player/get/all", 2L));
+    }
+
+    @Test(description = "Calls earn the budget back at the configured ratio, up to its cap")
+    public void testBudgetIsEarnedBack() {
+        RetryPolicy policy = policy(Map.of("test.retry.count", "100", "test.retry.budget.max", "2",
+                "test.retry.budget.ratio", "0.25"));
+        assertTrue(policy.shouldRetry(GET_ALL, 500, 0));
+        assertTrue(policy.shouldRetry(GET_ALL, 500, 1));
+        assertFalse(policy.shouldRetry(GET_ALL, 500, 2));
+
+        for (int call = 0; call < 3; call++) {
+            policy.onCall();
+        }
+        assertFalse(policy.shouldRetry(GET_ALL, 500, 0), "Three calls earn 0.75 of a retry");
+        policy.onCall();
+        assertTrue(policy.shouldRetry(GET_ALL, 500, 0), "The fourth call completes a retry");
+
+        for (int call = 0; call < 100; call++) {
+            policy.onCall();
+        }
+        assertTrue(policy.shouldRetry(GET_ALL, 500, 0));
+        assertTrue(policy.shouldRetry(GET_ALL, 500, 0));
+        assertFalse(policy.shouldRetry(GET_ALL, 500, 0), "The balance is capped at two retries");
+    }
+
+    @Test(description = "Only transport errors and 5xx responses are retried, at most test.retry.count times")
+    public void testWhatIsRetried() {
+        RetryPolicy policy = policy(Map.of("test.retry.count", "2", "test.retry.budget.max", "100"));
+        assertFalse(policy.shouldRetry(GET_ALL, 400, 0));
+        assertFalse(policy.shouldRetry(GET_ALL, 404, 0));
+        assertFalse(policy.shouldRetry(GET_ALL, new IllegalStateException("bug"), 0));
+        assertTrue(policy.shouldRetry(GET_ALL, new CompletionException(new UncheckedIOException(new IOException())), 0));
+        assertTrue(policy.shouldRetry(GET_ALL, new RequestTimeoutException(GET_ALL, null), 1));
+        assertFalse(policy.shouldRetry(GET_ALL, 502, 2), "No retry beyond test.retry.count");
+        assertEquals(policy.retriesByEndpoint(), Map.of("/player/get/all", 2L));
+        assertTrue(policy.deniedByEndpoint().isEmpty(), "The retry limit is not a budget refusal");
+    }
+
+    @Test(description = "Backoff is full jitter below the doubled base delay, capped at the maximum")
+    public void testJitterBounds() {
+        RetryPolicy policy = policy(Map.of("test.retry.backoff.ms", "100", "test.retry.max.backoff.ms", "300"));
+        long[] ceilings = {100, 200, 300, 300, 300};
+        for (int retry = 1; retry <= ceilings.length; retry++) {
+            Set<Long> seen = new HashSet<>();
+            for (int sample = 0; sample < 2000; sample++) {
+                long backoff = policy.backoffMillis(retry);
+                assertTrue(backoff >= 0 && backoff <= ceilings[retry - 1],
+                        "Backoff " + backoff + " of retry " + retry + " is outside [0, " + ceilings[retry - 1] + "]");
+                seen.add(backoff);
+            }
+            assertTrue(seen.size() > 20, "Backoff of retry " + retry + " is jittered, saw " + seen);
+        }
+        assertTrue(policy.backoffMillis(64) <= 300, "Large retry numbers do not overflow the shift");
+    }
+
+    @Test(description = "A zero base delay retries immediately")
+    public void testZeroBackoff() {
+        RetryPolicy policy = policy(Map.of("test.retry.backoff.ms", "0"));
+        assertEquals(policy.backoffMillis(1), 0L);
+        assertEquals(policy.backoffMillis(3), 0L);
+    }
+
+    private static RetryPolicy policy(Map<String, String> overrides) {
+        return new RetryPolicy(ConfigFactory.create(AppConfig.class, overrides));
+    }
+}
@@ -0,0 +1,133 @@
+package api.client;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class TrafficJournalTest {
+
+    private static final String GET_ALL = "/player/get/all";
+    // length prefix, fixed fields and "GET" + GET_ALL twice, without a body
+    private static final int GET_ALL_RECORD_BYTES = 4 + 45 + 3 + 2 * GET_ALL.length();
+    private static final int HEADER_BYTES = 16;
+
+    private final ThreadLocal<Path> file = new ThreadLocal<>();
+
+    @BeforeMethod
+    public void createFile() throws IOException {
+        file.set(Files.createTempFile("traffic-journal", ".bin"));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file.get());
+        file.remove();
+    }
+
+    @Test(description = "Every field of an appended call is read back as written")
+    public void testRoundTrip() throws IOException {
+        byte[] body = "{\"screenName\":\"ünï\"}".getBytes(StandardCharsets.UTF_8);
+        long start = System.nanoTime();
+        try (TrafficJournal journal = TrafficJournal.create(file.get(), 4096)) {
+            assertTrue(journal.append(start, 12_345_678L, 200, 512, -1, false, "PATCH", "/player/update/{editor}/{id}",
+                    "/player/update/supervisor/42", body));
+            assertTrue(journal.append(start + 1_000, 5_000_000_000L, TrafficJournal.TIMEOUT, -1, -1, true, "GET",
+                    GET_ALL, GET_ALL, null));
+            assertTrue(journal.append(start + 2_000, 1_000_000L, 200, 80, 1234L, false, "GET", "/player/create/{editor}",
+                    "/player/create/supervisor?age=20", null));
+            assertEquals(journal.getRecords(), 3L);
+            assertEquals(journal.getDropped(), 0L);
+        }
+
+        List<TrafficJournal.Entry> entries = TrafficJournal.read(file.get());
+        assertEquals(entries.size(), 3);
+        TrafficJournal.Entry update = entries.get(0);
+        assertEquals(update.getLatencyNanos(), 12_345_678L);
+        assertEquals(update.getStatusCode(), 200);
+        assertEquals(update.getResponseBytes(), 512);
+        assertEquals(update.getCreatedId(), -1L);
+        assertFalse(update.isIdempotent());
+        assertEquals(update.getMethod(), "PATCH");
+        assertEquals(update.getTemplate(), "/player/update/{editor}/{id}");
+        assertEquals(update.getTarget(), "/player/update/supervisor/42");
+        assertEquals(update.getBody(), body);
+
+        TrafficJournal.Entry getAll = entries.get(1);
+        assertEquals(getAll.getOffsetNanos() - update.getOffsetNanos(), 1_000L);
+        assertEquals(getAll.getLatencyNanos(), 5_000_000_000L);
+        assertEquals(getAll.getStatusCode(), TrafficJournal.TIMEOUT);
+        assertEquals(getAll.getResponseBytes(), -1);
+        assertTrue(getAll.isIdempotent());
+        assertEquals(getAll.getMethod(), "GET");
+        assertEquals(getAll.getTemplate(), GET_ALL);
+        assertEquals(getAll.getTarget(), GET_ALL);
+        assertNull(getAll.getBody(), "A call without a body reads back as null, not as an empty body");
+
+        TrafficJournal.Entry create = entries.get(2);
+        assertEquals(create.getCreatedId(), 1234L);
+        assertEquals(create.getTarget(), "/player/create/supervisor?age=20");
+    }
+
+    @Test(description = "A full journal drops and counts further calls and keeps the ones that fit")
+    public void testFullJournal() throws IOException {
+        long start = System.nanoTime();
+        try (TrafficJournal journal = TrafficJournal.create(file.get(), HEADER_BYTES + 3 * GET_ALL_RECORD_BYTES + 4)) {
+            for (int i = 0; i < 3; i++) {
+                assertTrue(journal.append(start + i, 1, 200, 2, -1, true, "GET", GET_ALL, GET_ALL, null),
+                        "Call " + i + " fits");
+            }
+            assertFalse(journal.append(start + 3, 1, 200, 2, -1, true, "GET", GET_ALL, GET_ALL, null));
+            assertFalse(journal.append(start + 4, 1, 200, 2, -1, true, "GET", GET_ALL, GET_ALL, new byte[] {'{', '}'}));
+            assertEquals(journal.getRecords(), 3L);
+            assertEquals(journal.getDropped(), 2L);
+        }
+
+        List<TrafficJournal.Entry> entries = TrafficJournal.read(file.get());
+        assertEquals(entries.size(), 3);
+        for (int i = 1; i < entries.size(); i++) {
+            assertEquals(entries.get(i).getOffsetNanos() - entries.get(0).getOffsetNanos(), (long) i);
+        }
+    }
+
+    @Test(description = "Calls appended out of start order are read back sorted by start")
+    public void testOutOfOrderAppends() throws IOException {
+        long start = System.nanoTime();
+        long[] delays = {300, 100, 500, 0, 200, 400};
+        try (TrafficJournal journal = TrafficJournal.create(file.get(), 4096)) {
+            for (long delay : delays) {
+                assertTrue(journal.append(start + delay, delay, 200, 0, -1, true, "GET", GET_ALL, GET_ALL + "?n=" + delay,
+                        null));
+            }
+        }
+
+        List<TrafficJournal.Entry> entries = TrafficJournal.read(file.get());
+        assertEquals(entries.size(), delays.length);
+        long first = entries.get(0).getOffsetNanos();
+        for (int i = 0; i < entries.size(); i++) {
+            TrafficJournal.Entry entry = entries.get(i);
+            long delay = 100L * i;
+            assertEquals(entry.getOffsetNanos() - first, delay, "Entry " + i + " is in start order");
+            assertEquals(entry.getLatencyNanos(), delay, "Entry " + i + " kept its own fields when sorted");
+            assertEquals(entry.getTarget(), GET_ALL + "?n=" + delay);
+        }
+    }
+
+    @Test(description = "A file that is not a journal is rejected")
+    public void testNotAJournal() throws IOException {
+        Files.write(file.get(), new byte[32]);
+        IOException error = expectThrows(IOException.class, () -> TrafficJournal.read(file.get()));
+        assertTrue(error.getMessage().contains("is not a traffic journal"), error.getMessage());
+    }
+}
@@ -0,0 +1,65 @@
+package api.client;
+
+import static org.testng.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+
+import org.testng.annotations.Test;
+
+public class UriEncoderTest {
+
+    @Test(description = "Unreserved characters are kept as they are")
+    public void testUnreservedCharactersAreKept() {
+        String unreserved = "ABCXYZabcxyz0189-._~";
+        assertEquals(UriEncoder.encode(unreserved), unreserved);
+    }
+
+    @Test(description = "Reserved characters and spaces are percent-encoded")
+    public void testReservedCharactersAreEncoded() {
+        assertEquals(UriEncoder.encode(":/?#[]@!$&'()*+,;="),
+                "%3A%2F%3F%23%5B%5D%40%21%24%26%27%28%29%2A%2B%2C%3B%3D");
+        assertEquals(UriEncoder.encode("100% a b"), "100%25%20a%20b");
+    }
+
+    @Test(description = "Characters outside ASCII are encoded as their UTF-8 bytes")
+    public void testMultiByteCharacters() {
+        assertEquals(UriEncoder.encode("é"), "%C3%A9");
+        assertEquals(UriEncoder.encode("€"), "%E2%82%AC");
+        assertEquals(UriEncoder.encode("игрок"), reference("игрок"));
+    }
+
+    @Test(description = "A surrogate pair is encoded as one four-byte code point")
+    public void testSurrogatePair() {
+        assertEquals(UriEncoder.encode("😀"), "%F0%9F%98%80");
+        assertEquals(UriEncoder.encode("a🏆b"), "a%F0%9F%8F%86b");
+    }
+
+    @Test(description = "Lone surrogates are replaced by '?' as String#getBytes does")
+    public void testLoneSurrogates() {
+        assertEquals(UriEncoder.encode("\uD83Dx"), "%3Fx");
+        assertEquals(UriEncoder.encode("x\uDE00"), "x%3F");
+        assertEquals(UriEncoder.encode("\uDE00\uD83D"), reference("\uDE00\uD83D"));
+    }
+
+    @Test(description = "Appending writes into the given buffer after what it already holds")
+    public void testAppendToExistingBuffer() {
+        StringBuilder target = new StringBuilder("/player/delete/");
+        assertEquals(UriEncoder.append(target, "a b").toString(), "/player/delete/a%20b");
+    }
+
+    /**
+     * Encodes every byte of {@code value}'s UTF-8 form except unreserved ASCII.
+     */
+    private static String reference(String value) {
+        StringBuilder encoded = new StringBuilder();
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xFF);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || "-._~".indexOf(c) >= 0) {
+                encoded.append(c);
+            } else {
+                encoded.append(String.format("%%%02X", b & 0xFF));
+            }
+        }
+        return encoded.toString();
+    }
+}
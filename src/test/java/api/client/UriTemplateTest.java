@@ -0,0 +1,74 @@
+package api.client;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.expectThrows;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+public class UriTemplateTest {
+
+    private static final UriTemplate UPDATE = UriTemplate.compile("/player/update/{editor}/{id}");
+    private static final UriTemplate DELETE = UriTemplate.compile("/player/delete/{editor}");
+
+    @Test(description = "Templates are parsed into their variables and interned")
+    public void testCompile() {
+        assertEquals(UPDATE.getVariables(), List.of("editor", "id"));
+        assertSame(UriTemplate.compile("/player/update/{editor}/{id}"), UPDATE);
+        expectThrows(IllegalArgumentException.class, () -> UriTemplate.compile("/player/{editor"));
+    }
+
+    @Test(description = "Numbers are written as is and strings percent-encoded")
+    public void testExpand() {
+        assertEquals(UPDATE.expand("supervisor", 42), "/player/update/supervisor/42");
+        assertEquals(UPDATE.expand("a b", 7L), "/player/update/a%20b/7");
+        assertEquals(DELETE.expand("x/y?z"), "/player/delete/x%2Fy%3Fz");
+        assertEquals(UriTemplate.compile("/player/get/all").expand(), "/player/get/all");
+    }
+
+    @Test(description = "Expansion checks the number of values and rejects null")
+    public void testExpandArity() {
+        expectThrows(IllegalArgumentException.class, () -> UPDATE.expand("supervisor"));
+        expectThrows(IllegalArgumentException.class, () -> DELETE.expand("supervisor", 1));
+        expectThrows(IllegalArgumentException.class, () -> DELETE.expand(null));
+    }
+
+    @Test(description = "Matching a decoded expansion gives back the values")
+    public void testExpandMatchRoundTrip() {
+        String[][] cases = {
+                {"supervisor", "1"},
+                {"qa user", "123456789012"},
+                {"ünï~cødé", "0"},
+                {"😀", "7"},
+                {"a+b=c&d", "99"},
+        };
+        for (String[] values : cases) {
+            String path = URLDecoder.decode(UPDATE.expand(values[0], values[1]), StandardCharsets.UTF_8);
+            assertEquals(UPDATE.match(path), values, "Round trip of " + String.join(", ", values));
+        }
+    }
+
+    @Test(description = "Paths without the template's shape do not match")
+    public void testMatchRejects() {
+        assertNull(DELETE.match("/player/remove/supervisor"));
+        assertNull(DELETE.match("/player/delete/"));
+        assertNull(DELETE.match("/player/delete/a/b"));
+        assertNull(UPDATE.match("/player/update/supervisor/"));
+        assertNull(UPDATE.match("/player/update/supervisor/1/extra"));
+        assertEquals(UriTemplate.compile("/player/get/all").match("/player/get/all"), new String[0]);
+        assertNull(UriTemplate.compile("/player/get/all").match("/player/get/all/"));
+    }
+
+    @Test(description = "appendTo continues an existing buffer")
+    public void testAppendTo() {
+        StringBuilder target = new StringBuilder("http://localhost");
+        assertEquals(DELETE.appendTo(target, "admin").append("?x=1").toString(),
+                "http://localhost/player/delete/admin?x=1");
+        assertEquals(UPDATE.appendTo(new StringBuilder(), "admin", 5).toString(), "/player/update/admin/5");
+    }
+}
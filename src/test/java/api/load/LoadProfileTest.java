@@ -0,0 +1,87 @@
+package api.load;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+public class LoadProfileTest {
+
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test(description = "A constant phase spaces requests evenly and ends after rate times duration requests")
+    public void testConstantPhase() {
+        LoadProfile profile = LoadProfile.builder().constant("steady", Duration.ofSeconds(2), 10).build();
+        for (int i = 0; i < 20; i++) {
+            assertNear(profile.intendedOffsetNanos(i), i * 100 * MILLI, "Request " + i);
+        }
+        assertEquals(profile.intendedOffsetNanos(20), -1L);
+        assertEquals(profile.getDuration(), Duration.ofSeconds(2));
+    }
+
+    @Test(description = "A ramp from zero is due where the integral of the rate reaches the request's index")
+    public void testRampIntegral() {
+        // rate(t) = t, so request i is due when t^2 / 2 = i
+        LoadProfile profile = LoadProfile.builder().ramp("ramp-up", Duration.ofSeconds(10), 0, 10).build();
+        for (int i = 0; i < 50; i++) {
+            assertNear(profile.intendedOffsetNanos(i), (long) (Math.sqrt(2.0 * i) * SECOND), "Request " + i);
+        }
+        assertEquals(profile.intendedOffsetNanos(50), -1L, "A 0 to 10 rps ramp over 10 s has 50 requests");
+    }
+
+    @Test(description = "A ramp down front-loads its requests and offsets keep rising across phases")
+    public void testPhasesFollowEachOther() {
+        LoadProfile profile = LoadProfile.builder()
+                .ramp("ramp-up", Duration.ofSeconds(10), 0, 10)
+                .constant("steady", Duration.ofSeconds(1), 10)
+                .ramp("ramp-down", Duration.ofSeconds(10), 10, 0)
+                .build();
+        assertNear(profile.intendedOffsetNanos(50), 10 * SECOND, "First steady request");
+        assertNear(profile.intendedOffsetNanos(59), 10 * SECOND + 900 * MILLI, "Last steady request");
+        for (int i = 0; i < 50; i++) {
+            // 10t - t^2 / 2 = i
+            long expected = 11 * SECOND + (long) ((10 - Math.sqrt(100 - 2.0 * i)) * SECOND);
+            assertNear(profile.intendedOffsetNanos(60 + i), expected, "Ramp-down request " + i);
+        }
+        assertEquals(profile.intendedOffsetNanos(110), -1L);
+
+        long previous = -1;
+        for (int i = 0; i < 110; i++) {
+            long offset = profile.intendedOffsetNanos(i);
+            assertTrue(offset >= previous, "Request " + i + " is not due before request " + (i - 1));
+            previous = offset;
+        }
+        assertEquals(profile.getDuration(), Duration.ofSeconds(21));
+    }
+
+    @Test(description = "phaseAt names the phase running at an offset, and the last one past the end")
+    public void testPhaseAt() {
+        LoadProfile profile = LoadProfile.builder()
+                .ramp("ramp-up", Duration.ofSeconds(1), 0, 10)
+                .constant("idle", Duration.ZERO, 10)
+                .constant("steady", Duration.ofSeconds(2), 10)
+                .build();
+        assertEquals(profile.getPhases().size(), 2, "Empty phases are dropped");
+        assertEquals(profile.phaseAt(0), "ramp-up");
+        assertEquals(profile.phaseAt(SECOND - 1), "ramp-up");
+        assertEquals(profile.phaseAt(SECOND), "steady");
+        assertEquals(profile.phaseAt(10 * SECOND), "steady");
+        assertEquals(LoadProfile.builder().build().phaseAt(0), "");
+    }
+
+    @Test(description = "Negative rates are rejected")
+    public void testNegativeRate() {
+        expectThrows(IllegalArgumentException.class,
+                () -> LoadProfile.builder().ramp("bad", Duration.ofSeconds(1), 5, -1));
+    }
+
+    private static void assertNear(long actualNanos, long expectedNanos, String message) {
+        assertTrue(Math.abs(actualNanos - expectedNanos) <= MILLI,
+                message + " is due at " + actualNanos + " ns, expected " + expectedNanos + " ns");
+    }
+}
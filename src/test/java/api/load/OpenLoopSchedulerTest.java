@@ -0,0 +1,53 @@
+package api.load;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class OpenLoopSchedulerTest {
+
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test(description = "A stalled dispatcher does not move intended start times, it shows up as lag")
+    public void testIntendedStartsUnderLag() {
+        // 20 requests, one every 10 ms
+        LoadProfile profile = LoadProfile.builder().constant("steady", Duration.ofMillis(200), 100).build();
+        List<long[]> dispatched = new ArrayList<>();
+        long start = System.nanoTime();
+        new OpenLoopScheduler(profile).run(start, (intendedStart, lag) -> {
+            dispatched.add(new long[] {intendedStart, lag, System.nanoTime()});
+            if (dispatched.size() == 3) {
+                OpenLoopScheduler.parkUntil(System.nanoTime() + 60 * MILLI);
+            }
+        });
+
+        assertEquals(dispatched.size(), 20, "Requests due during the stall are sent late, not dropped");
+        for (int i = 0; i < dispatched.size(); i++) {
+            long[] request = dispatched.get(i);
+            assertEquals(request[0], start + profile.intendedOffsetNanos(i), "Intended start of request " + i);
+            assertTrue(request[1] >= 0, "Request " + i + " is not dispatched early");
+            assertTrue(request[2] - request[1] >= request[0], "Lag of request " + i + " is measured from its "
+                    + "intended start");
+        }
+        // request 2 stalls the dispatcher until at least 80 ms; requests 3 to 7 were due before then
+        for (int i = 3; i < 8; i++) {
+            long minimumLag = (80 - 10 * i) * MILLI;
+            assertTrue(dispatched.get(i)[1] >= minimumLag,
+                    "Request " + i + " lagged " + dispatched.get(i)[1] + " ns, expected at least " + minimumLag);
+        }
+    }
+
+    @Test(description = "parkUntil returns no earlier than the deadline")
+    public void testParkUntil() {
+        long deadline = System.nanoTime() + 5 * MILLI;
+        assertTrue(OpenLoopScheduler.parkUntil(deadline) >= deadline);
+        long past = System.nanoTime() - MILLI;
+        assertTrue(OpenLoopScheduler.parkUntil(past) > past, "A past deadline returns at once");
+    }
+}
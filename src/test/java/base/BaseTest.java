@@ -1,25 +1,152 @@
 package base;
 
+import api.client.CircuitBreaker;
+import api.client.ConnectionPool;
+import api.client.LatencyHistograms;
+import api.client.LatencySlo;
+import api.client.RateLimiter;
+import api.client.RetryPolicy;
+import api.data.PlayerCleanupService;
+import api.data.OrphanSweeper;
+import api.data.PlayerFixturePool;
 import api.requests.PlayerApiClient;
+import api.stub.PlayerStubServer;
+import common.env.ConfigFactoryProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Listeners;
 
+import io.qameta.allure.Allure;
 import io.qameta.allure.testng.AllureTestNg;
 import listeners.AllureEnvironmentListener;
+import listeners.CircuitBreakerListener;
+import listeners.TestDeadlineListener;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
 
-@Listeners({AllureTestNg.class, AllureEnvironmentListener.class})
+@Listeners({AllureTestNg.class, AllureEnvironmentListener.class, TestDeadlineListener.class, CircuitBreakerListener.class})
 public abstract class BaseTest {
-    protected PlayerApiClient apiClient;
-    protected List<Integer> createdPlayerIds;
+    private static final Logger logger = LoggerFactory.getLogger(BaseTest.class);
+    private static final Path LATENCY_REPORT = Paths.get("target", "latency", "latency-histograms.csv");
+    protected final PlayerApiClient apiClient = new PlayerApiClient();
+    // TestNG runs a test's @BeforeMethod, body and @AfterMethod on one worker thread, while parallel="methods" runs
+    // other tests of the same instance alongside, so per-test state lives in thread locals rather than fields
+    private final ThreadLocal<List<Integer>> createdPlayerIds = ThreadLocal.withInitial(CopyOnWriteArrayList::new);
 
     @BeforeSuite(alwaysRun = true)
     public void globalSetup() {
-        // Global test hooks can be placed here if needed.
+        PlayerStubServer.startIfEnabled();
+        new OrphanSweeper().sweepStale();
+    }
+
+    /**
+     * IDs of the players the current test created; they are handed to {@link PlayerCleanupService} after it.
+     */
+    protected List<Integer> createdPlayerIds() {
+        return createdPlayerIds.get();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void scheduleCleanup() {
+        List<Integer> created = createdPlayerIds.get();
+        createdPlayerIds.remove();
+        logger.info("Scheduling cleanup of {} created players", created.size());
+        PlayerCleanupService.getInstance().registerAll(created);
     }
-}
 
+    @AfterSuite(alwaysRun = true)
+    public void globalTearDown() {
+        Duration cleanupTimeout = Duration.ofSeconds(ConfigFactoryProvider.appConfig().cleanupAwaitTimeoutSeconds());
+        PlayerFixturePool.getInstance().close();
+        PlayerCleanupService.getInstance().awaitCompletion(cleanupTimeout);
+        // Whatever is still listed under this run's tag slipped past the per-test cleanup
+        new OrphanSweeper().sweepCurrentRun();
+        PlayerCleanupService.CleanupReport cleanup = PlayerCleanupService.getInstance().awaitCompletion(cleanupTimeout);
+        if (cleanup.isClean()) {
+            logger.info("Player cleanup finished: {}", cleanup);
+        } else {
+            logger.warn("Player cleanup incomplete: {}", cleanup);
+            cleanup.getFailures().forEach((playerId, reason) ->
+                    logger.warn("  player {} was not deleted: {}", playerId, reason));
+            if (!cleanup.getPending().isEmpty()) {
+                logger.warn("  still pending when the barrier timed out: {}", cleanup.getPending());
+            }
+        }
+        logger.info("HTTP connection pool at suite end: {}", ConnectionPool.stats());
+        RetryPolicy retryPolicy = RetryPolicy.getInstance();
+        if (!retryPolicy.retriesByEndpoint().isEmpty() || !retryPolicy.deniedByEndpoint().isEmpty()) {
+            logger.warn("HTTP retries by endpoint: {}, refused by retry budget: {}",
+                    retryPolicy.retriesByEndpoint(), retryPolicy.deniedByEndpoint());
+        }
+        RateLimiter rateLimiter = RateLimiter.getInstance();
+        if (!rateLimiter.waitsByEndpoint().isEmpty() || !rateLimiter.refusedByEndpoint().isEmpty()) {
+            logger.info("Rate limiter waits by endpoint: {}, total wait ms: {}, refused: {}",
+                    rateLimiter.waitsByEndpoint(), rateLimiter.waitMillisByEndpoint(), rateLimiter.refusedByEndpoint());
+        }
+        reportLatencies();
+        CircuitBreaker.all().forEach((service, breaker) -> {
+            CircuitBreaker.Stats stats = breaker.stats();
+            if (stats.getTimesOpened() > 0) {
+                logger.warn("Circuit for {} opened {} times and rejected {} calls; last cause: {}", service,
+                        stats.getTimesOpened(), stats.getRejected(), stats.getLastOpenCause());
+            }
+        });
+        PlayerStubServer.stopShared();
+        checkLatencySlos();
+    }
+
+    private void reportLatencies() {
+        LatencyHistograms latencies = LatencyHistograms.getInstance();
+        if (latencies.snapshot().isEmpty()) {
+            return;
+        }
+        String table = latencies.formatTable();
+        logger.info("HTTP latency by endpoint:\n{}", table);
+        Allure.addAttachment("HTTP latency by endpoint", "text/plain", table, ".txt");
+        try {
+            latencies.writeCsv(LATENCY_REPORT);
+            logger.info("HTTP latency histograms written to {}", LATENCY_REPORT.toAbsolutePath());
+        } catch (IOException e) {
+            logger.error("Failed to write HTTP latency histograms", e);
+        }
+    }
 
+    /**
+     * Evaluates the configured latency SLOs; with {@code http.slo.enforce=true} a violated one fails the suite the
+     * same way a failed assertion fails a test. The objectives describe the Player Controller, so against the
+     * in-process stub they are only reported.
+     */
+    private void checkLatencySlos() {
+        List<LatencySlo> slos = LatencySlo.fromConfig(ConfigFactoryProvider.apiConfig());
+        if (slos.isEmpty()) {
+            return;
+        }
+        long minSamples = ConfigFactoryProvider.apiConfig().httpSloMinSamples();
+        List<LatencySlo.Result> results = slos.stream()
+                .map(slo -> slo.evaluate(LatencyHistograms.getInstance(), minSamples))
+                .collect(Collectors.toList());
+        String summary = results.stream().map(LatencySlo.Result::toString).collect(Collectors.joining("\n"));
+        logger.info("Latency SLOs:\n{}", summary);
+        Allure.addAttachment("Latency SLOs", "text/plain", summary, ".txt");
+        List<LatencySlo.Result> violated = results.stream()
+                .filter(result -> !result.isMet())
+                .collect(Collectors.toList());
+        if (violated.isEmpty()) {
+            return;
+        }
+        String message = "Latency SLOs violated: " + violated;
+        if (ConfigFactoryProvider.apiConfig().httpSloEnforce() && !ConfigFactoryProvider.apiConfig().stubServerEnabled()) {
+            throw new AssertionError(message);
+        }
+        logger.warn(message);
+    }
+}
@@ -0,0 +1,108 @@
+package benchmarks;
+
+import api.client.JsonCodecs;
+import api.model.request.Player;
+import api.model.response.PlayerResponse;
+import api.model.response.PlayersResponse;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link JsonCodecs} with the reflective mapper previously used by {@code ResponseWrapper} (reads) and the
+ * plain mapper REST Assured serializes bodies with (writes).
+ * <p>
+ * Run with {@code mvn -Pjmh test-compile exec:exec -Djmh.args="JsonCodecsBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonCodecsBenchmark {
+
+    private static final ObjectMapper REFLECTIVE_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true)
+            .configure(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY, true)
+            .configure(DeserializationFeature.FAIL_ON_NUMBERS_FOR_ENUMS, false);
+    private static final ObjectMapper REST_ASSURED_MAPPER = new ObjectMapper();
+
+    @Param({"1000"})
+    private int players;
+
+    private Player player;
+    private byte[] playerJson;
+    private byte[] playersJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        JsonCodecs.precompile(Player.class, PlayerResponse.class, PlayersResponse.class);
+        player = new Player();
+        player.setAge(27);
+        player.setGender("female");
+        player.setLogin("benchmark_login");
+        player.setPassword("secret123");
+        player.setRole("user");
+        player.setScreenName("qa000001_bench");
+        playerJson = REFLECTIVE_MAPPER.writeValueAsBytes(player);
+
+        List<PlayerResponse> items = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            PlayerResponse item = new PlayerResponse();
+            item.setPlayerId(i);
+            item.setAge(16 + i % 45);
+            item.setGender(i % 2 == 0 ? "male" : "female");
+            item.setScreenName("player" + i);
+            items.add(item);
+        }
+        PlayersResponse response = new PlayersResponse();
+        response.setPlayers(items);
+        playersJson = REFLECTIVE_MAPPER.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public PlayerResponse readPlayerReflective() throws Exception {
+        return REFLECTIVE_MAPPER.readValue(playerJson, PlayerResponse.class);
+    }
+
+    @Benchmark
+    public PlayerResponse readPlayerCodec() throws Exception {
+        return JsonCodecs.read(playerJson, PlayerResponse.class);
+    }
+
+    @Benchmark
+    public PlayersResponse readPlayersReflective() throws Exception {
+        return REFLECTIVE_MAPPER.readValue(playersJson, PlayersResponse.class);
+    }
+
+    @Benchmark
+    public PlayersResponse readPlayersCodec() throws Exception {
+        return JsonCodecs.read(playersJson, PlayersResponse.class);
+    }
+
+    @Benchmark
+    public String writePlayerRestAssuredMapper() throws Exception {
+        return REST_ASSURED_MAPPER.writeValueAsString(player);
+    }
+
+    @Benchmark
+    public String writePlayerCodec() throws Exception {
+        return JsonCodecs.writeAsString(player);
+    }
+}
@@ -0,0 +1,35 @@
+package listeners;
+
+import api.client.CircuitOpenException;
+import common.env.ConfigFactoryProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+import org.testng.SkipException;
+
+/**
+ * With {@code http.circuit.open.skips.tests=true}, reports tests that failed only because the circuit to the service
+ * was open as skipped, so a dead environment shows up as one failure and a list of skips rather than a wall of red.
+ */
+public class CircuitBreakerListener implements IInvokedMethodListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreakerListener.class);
+    private static final boolean SKIP_ON_OPEN = ConfigFactoryProvider.apiConfig().httpCircuitOpenSkipsTests();
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!SKIP_ON_OPEN || !method.isTestMethod() || testResult.getStatus() != ITestResult.FAILURE) {
+            return;
+        }
+        for (Throwable cause = testResult.getThrowable(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof CircuitOpenException) {
+                logger.warn("Skipping {}: {}", method.getTestMethod().getQualifiedName(), cause.getMessage());
+                testResult.setStatus(ITestResult.SKIP);
+                testResult.setThrowable(new SkipException(cause.getMessage(), cause));
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package listeners;
+
+import api.client.Deadline;
+import common.env.ConfigFactoryProvider;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import java.time.Duration;
+
+/**
+ * Gives every test method a {@link Deadline} of {@code test.timeout} seconds. HTTP calls made by the test are cut off
+ * when it passes, so one hung connection fails its own test instead of stalling the worker for the rest of the run.
+ */
+public class TestDeadlineListener implements IInvokedMethodListener {
+
+    private static final Duration TEST_TIMEOUT = Duration.ofSeconds(ConfigFactoryProvider.appConfig().testTimeoutSeconds());
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            Deadline.set(Deadline.after(TEST_TIMEOUT, method.getTestMethod().getQualifiedName()));
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            Deadline.clear();
+        }
+    }
+}
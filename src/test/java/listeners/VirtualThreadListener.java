@@ -0,0 +1,249 @@
+package listeners;
+
+import api.client.Deadline;
+import common.VirtualThreads;
+import common.env.AppConfig;
+import common.env.ConfigFactoryProvider;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAlterSuiteListener;
+import org.testng.IConfigurable;
+import org.testng.IConfigureCallBack;
+import org.testng.IExecutionListener;
+import org.testng.IHookCallBack;
+import org.testng.IHookable;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Switches the suite to virtual-thread execution when {@code test.virtual.threads=true}.
+ * <p>
+ * The suite thread count is raised to {@code test.virtual.threads.max.concurrency}, which becomes the only bound on
+ * concurrently running test methods. Every configuration and test method then runs on a virtual thread: TestNG 7.9
+ * cannot swap its worker pool, so each worker hands its invocations to a virtual thread of its own and waits for
+ * them. Keeping one virtual thread per worker preserves what the suite relies on, namely that a test's
+ * {@code @BeforeMethod}, body and {@code @AfterMethod} share their thread locals; the test's {@link Deadline}, TestNG's
+ * current result and the running Allure test case are carried over from the worker. Blocking HTTP calls made by the
+ * tests therefore park virtual threads, and a JFR recording of {@code jdk.VirtualThreadPinned} events captures where
+ * they pin their carrier; at the end a per-run pinning summary is logged and written to
+ * {@code target/virtual-threads/pinning-report.txt}.
+ * <p>
+ * Must be registered in testng.xml: TestNG ignores suite alteration listeners declared via {@code @Listeners}.
+ */
+public class VirtualThreadListener implements IExecutionListener, IAlterSuiteListener, IHookable, IConfigurable {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadListener.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final Path REPORT_DIR = Paths.get("target", "virtual-threads");
+
+    private final boolean enabled = isEnabled(ConfigFactoryProvider.appConfig());
+    private final ThreadLocal<ExecutorService> virtualThreads = new ThreadLocal<>();
+    private final Queue<ExecutorService> allVirtualThreads = new ConcurrentLinkedQueue<>();
+    private Recording pinningRecording;
+
+    @Override
+    public void onExecutionStart() {
+        if (!enabled) {
+            return;
+        }
+        AppConfig config = ConfigFactoryProvider.appConfig();
+        try {
+            pinningRecording = new Recording();
+            pinningRecording.setName("virtual-thread-pinning");
+            pinningRecording.enable(PINNED_EVENT)
+                    .withThreshold(Duration.ofMillis(config.virtualThreadsPinningThresholdMs()))
+                    .withStackTrace();
+            pinningRecording.start();
+        } catch (Exception e) {
+            logger.warn("Could not start JFR recording for virtual thread pinning", e);
+            pinningRecording = null;
+        }
+    }
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!enabled) {
+            return;
+        }
+        int ceiling = ConfigFactoryProvider.appConfig().virtualThreadsMaxConcurrency();
+        for (XmlSuite suite : suites) {
+            if (suite.getParallel() == null || suite.getParallel() == XmlSuite.ParallelMode.NONE) {
+                suite.setParallel(XmlSuite.ParallelMode.METHODS);
+            }
+            suite.setThreadCount(ceiling);
+            for (XmlTest test : suite.getTests()) {
+                test.setThreadCount(ceiling);
+            }
+        }
+        logger.info("Running suite in virtual-thread mode with a concurrency ceiling of {}", ceiling);
+    }
+
+    @Override
+    public void run(IHookCallBack callBack, ITestResult testResult) {
+        if (enabled) {
+            runOnVirtualThread(() -> callBack.runTestMethod(testResult), testResult);
+        } else {
+            callBack.runTestMethod(testResult);
+        }
+    }
+
+    @Override
+    public void run(IConfigureCallBack callBack, ITestResult testResult) {
+        if (enabled) {
+            runOnVirtualThread(() -> callBack.runConfigurationMethod(testResult), testResult);
+        } else {
+            callBack.runConfigurationMethod(testResult);
+        }
+    }
+
+    /**
+     * Runs {@code invocation} on the calling worker's virtual thread and waits for it. TestNG's callbacks record the
+     * method's own failure in {@code testResult}, so anything thrown here comes from the hand-over itself.
+     */
+    private void runOnVirtualThread(Runnable invocation, ITestResult testResult) {
+        ExecutorService virtualThread = virtualThreads.get();
+        if (virtualThread == null) {
+            virtualThread = Executors.newSingleThreadExecutor(
+                    VirtualThreads.factory(Thread.currentThread().getName() + "-virtual-"));
+            virtualThreads.set(virtualThread);
+            allVirtualThreads.add(virtualThread);
+        }
+        Deadline deadline = Deadline.current();
+        AllureLifecycle allure = Allure.getLifecycle();
+        Optional<String> testCase = allure.getCurrentTestCase();
+        Future<?> running = virtualThread.submit(() -> {
+            Reporter.setCurrentTestResult(testResult);
+            testCase.ifPresent(allure::setCurrentTestCase);
+            Deadline.set(deadline);
+            try {
+                invocation.run();
+            } finally {
+                Deadline.clear();
+                Reporter.setCurrentTestResult(null);
+            }
+        });
+        try {
+            running.get();
+        } catch (InterruptedException e) {
+            running.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + testResult.getName(), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(testResult.getName() + " failed on its virtual thread", e.getCause());
+        }
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        allVirtualThreads.forEach(ExecutorService::shutdown);
+        if (pinningRecording == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(REPORT_DIR);
+            Path recordingFile = REPORT_DIR.resolve("pinning.jfr");
+            pinningRecording.stop();
+            pinningRecording.dump(recordingFile);
+            writeReport(RecordingFile.readAllEvents(recordingFile));
+        } catch (IOException e) {
+            logger.error("Failed to produce virtual thread pinning report", e);
+        } finally {
+            pinningRecording.close();
+        }
+    }
+
+    private boolean isEnabled(AppConfig config) {
+        if (!config.virtualThreads()) {
+            return false;
+        }
+        if (!VirtualThreads.isSupported()) {
+            logger.warn("test.virtual.threads=true but this JVM cannot create virtual threads (Java 21+, or 19/20 with "
+                    + "--enable-preview); running on platform threads");
+            return false;
+        }
+        return true;
+    }
+
+    private void writeReport(List<RecordedEvent> events) throws IOException {
+        Map<String, long[]> bySite = new TreeMap<>();
+        long totalNanos = 0;
+        for (RecordedEvent event : events) {
+            if (!PINNED_EVENT.equals(event.getEventType().getName())) {
+                continue;
+            }
+            long nanos = event.getDuration().toNanos();
+            totalNanos += nanos;
+            long[] stats = bySite.computeIfAbsent(pinningSite(event.getStackTrace()), key -> new long[2]);
+            stats[0]++;
+            stats[1] += nanos;
+        }
+        long pinnedCount = bySite.values().stream().mapToLong(stats -> stats[0]).sum();
+        logger.info("Virtual thread pinning: {} events, {} ms pinned in total", pinnedCount, totalNanos / 1_000_000);
+
+        Path report = REPORT_DIR.resolve("pinning-report.txt");
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(report))) {
+            writer.println("# Virtual thread pinning report");
+            writer.println("events=" + pinnedCount);
+            writer.println("pinned.total.ms=" + totalNanos / 1_000_000);
+            writer.println();
+            bySite.entrySet().stream()
+                    .sorted(Comparator.comparingLong((Map.Entry<String, long[]> entry) -> entry.getValue()[1]).reversed())
+                    .forEach(entry -> {
+                        writer.println(entry.getValue()[0] + " events, " + entry.getValue()[1] / 1_000_000 + " ms at " + entry.getKey());
+                        logger.info("  pinned {} times ({} ms) at {}", entry.getValue()[0], entry.getValue()[1] / 1_000_000, entry.getKey());
+                    });
+        }
+        logger.info("Virtual thread pinning report written to {}", report.toAbsolutePath());
+    }
+
+    /**
+     * Attributes a pinning event to the first non-JDK frame, which is where the monitor or native frame was entered.
+     */
+    private String pinningSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "<unknown>";
+        }
+        RecordedFrame site = stackTrace.getFrames().get(0);
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                site = frame;
+                break;
+            }
+        }
+        return site.getMethod().getType().getName() + "." + site.getMethod().getName() + ":" + site.getLineNumber();
+    }
+}